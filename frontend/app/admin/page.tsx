@@ -80,29 +80,46 @@ const BrandSelector = ({
   brand: string;
   setBrand: (s: string) => void;
   list: string[];
-}) => (
-  <div className="flex items-center gap-2">
-    <label className="w-36 text-sm shrink-0">브랜드</label>
-    <select
-      value={brand}
-      onChange={e => setBrand(e.target.value)}
-      className="border p-2 rounded flex-1 bg-white"
-    >
-      <option value="">브랜드 선택</option>
-      {list.map(b => (
-        <option key={b} value={b}>
-          {b}
-        </option>
-      ))}
-    </select>
-    <input
-      value={brand}
-      onChange={e => setBrand(e.target.value)}
-      placeholder="직접 입력"
-      className="border p-2 rounded flex-1"
-    />
-  </div>
-);
+}) => {
+  // 직접 입력 시 서버 접두어 인덱스로 자동완성
+  const { data: suggestions = [] } = useQuery<string[]>({
+    queryKey: ["brandSuggest", brand],
+    queryFn: () =>
+      api.get("/brands/suggest", { params: { prefix: brand, limit: 10 } }).then(r => r.data),
+    enabled: brand.length > 0,
+    staleTime: 60_000
+  });
+
+  return (
+    <div className="flex items-center gap-2">
+      <label className="w-36 text-sm shrink-0">브랜드</label>
+      <select
+        value={brand}
+        onChange={e => setBrand(e.target.value)}
+        className="border p-2 rounded flex-1 bg-white"
+      >
+        <option value="">브랜드 선택</option>
+        {list.map(b => (
+          <option key={b} value={b}>
+            {b}
+          </option>
+        ))}
+      </select>
+      <input
+        value={brand}
+        onChange={e => setBrand(e.target.value)}
+        placeholder="직접 입력"
+        list="brand-suggest"
+        className="border p-2 rounded flex-1"
+      />
+      <datalist id="brand-suggest">
+        {suggestions.map(b => (
+          <option key={b} value={b} />
+        ))}
+      </datalist>
+    </div>
+  );
+};
 
 const CategorySelector = ({
   category,
@@ -483,7 +500,7 @@ function ProductUpdate() {
   // 1) 상품 목록 조회
   const { data: products = [] } = useQuery<ProductResponse[]>({
     queryKey: ["productList"],
-    queryFn: () => api.get("/products").then((r) => r.data),
+    queryFn: () => api.get("/products", { params: { size: 1000 } }).then((r) => r.data.items),
     staleTime: 60_000,
   });
 
@@ -606,7 +623,7 @@ function ProductDelete() {
   // 1) 상품 목록 조회
   const { data: products = [] } = useQuery<ProductResponse[]>({
     queryKey: ["productList"],
-    queryFn: () => api.get("/products").then(r => r.data),
+    queryFn: () => api.get("/products", { params: { size: 1000 } }).then(r => r.data.items),
     staleTime: 60_000,
   });
 
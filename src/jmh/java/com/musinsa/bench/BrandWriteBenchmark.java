@@ -0,0 +1,100 @@
+package com.musinsa.bench;
+
+import com.musinsa.MusinsaBackendAssignmentApplication;
+import com.musinsa.domain.Brand;
+import com.musinsa.domain.Category;
+import com.musinsa.domain.Product;
+import com.musinsa.repository.BrandRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 브랜드 쓰기 경로 INSERT 처리량 (점수 = 행/초)
+ * - singleBrand : 한 트랜잭션에서 브랜드 1 + 상품 8 행 (브랜드 생성 API 1회분)
+ * - bulkLoad    : 한 트랜잭션에서 브랜드 100 개(900 행)
+ * - idStrategy=SEQUENCE : 도메인 Brand/Product (pooled-lo 시퀀스)
+ * - idStrategy=IDENTITY : 같은 컬럼의 IdentityBrand/IdentityProduct (시퀀스 전환 이전 방식의 기준치)
+ * batchSize=0 은 JDBC 배치 비활성. IDENTITY 는 batchSize 와 무관하게 행마다 INSERT 1회.
+ *
+ * ./gradlew jmh -PjmhIncludes=BrandWriteBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BrandWriteBenchmark {
+
+    private static final int BULK_BRANDS = 100;
+    private static final int ROWS_PER_BRAND = 1 + Category.values().length;
+
+    @Param({"0", "50"})
+    int batchSize;
+
+    @Param({"SEQUENCE", "IDENTITY"})
+    String idStrategy;
+
+    private ConfigurableApplicationContext ctx;
+    private BrandRepository brandRepo;
+    private EntityManager em;
+    private TransactionTemplate tx;
+    private long seq;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = new SpringApplicationBuilder(MusinsaBackendAssignmentApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-write;MODE=MySQL",
+                        "spring.sql.init.mode=never",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize)
+                .run();
+        brandRepo = ctx.getBean(BrandRepository.class);
+        em = ctx.getBean(EntityManager.class);   // 공유 프록시 → 현재 트랜잭션의 EntityManager
+        tx = ctx.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_BRAND)
+    public void singleBrand() {
+        insertBrands(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_BRANDS * ROWS_PER_BRAND)
+    public void bulkLoad() {
+        insertBrands(BULK_BRANDS);
+    }
+
+    private void insertBrands(int count) {
+        tx.executeWithoutResult(s -> {
+            for (int i = 0; i < count; i++) {
+                String name = "B-" + seq++;
+                if (idStrategy.equals("IDENTITY")) {
+                    IdentityBrand b = new IdentityBrand(name);
+                    for (Category c : Category.values()) {
+                        b.getProducts().add(new IdentityProduct(b, c, 1000 + c.ordinal() * 100));
+                    }
+                    em.persist(b);
+                } else {
+                    Brand b = new Brand(name);
+                    for (Category c : Category.values()) {
+                        b.getProducts().add(new Product(b, c, 1000 + c.ordinal() * 100));
+                    }
+                    brandRepo.save(b);
+                }
+            }
+        });
+    }
+}
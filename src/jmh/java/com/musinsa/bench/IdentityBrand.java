@@ -0,0 +1,39 @@
+package com.musinsa.bench;
+
+import jakarta.persistence.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BrandWriteBenchmark 의 IDENTITY 기준치용 브랜드 (도메인 Brand 와 같은 컬럼, id 전략만 IDENTITY)
+ * - IDENTITY 는 INSERT 후 생성 키를 받아야 하므로 Hibernate 가 INSERT 배치를 쓰지 않는다
+ */
+@Entity
+@Table(name = "bench_identity_brand")
+public class IdentityBrand {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false)
+    private String name;
+
+    @OneToMany(mappedBy = "brand", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<IdentityProduct> products = new ArrayList<>();
+
+    protected IdentityBrand() {
+    }
+
+    public IdentityBrand(String name) {
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public List<IdentityProduct> getProducts() {
+        return products;
+    }
+}
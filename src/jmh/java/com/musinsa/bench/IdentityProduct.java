@@ -0,0 +1,37 @@
+package com.musinsa.bench;
+
+import com.musinsa.domain.Category;
+import jakarta.persistence.*;
+
+/** BrandWriteBenchmark 의 IDENTITY 기준치용 상품 (도메인 Product 와 같은 컬럼·제약) */
+@Entity
+@Table(
+    name = "bench_identity_product",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"brand_id", "category"})
+)
+public class IdentityProduct {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "brand_id")
+    private IdentityBrand brand;
+
+    @Enumerated(EnumType.STRING) @Column(nullable = false)
+    private Category category;
+
+    private int price;
+
+    protected IdentityProduct() {
+    }
+
+    public IdentityProduct(IdentityBrand brand, Category category, int price) {
+        this.brand = brand;
+        this.category = category;
+        this.price = price;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
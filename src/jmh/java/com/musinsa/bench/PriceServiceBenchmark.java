@@ -0,0 +1,95 @@
+package com.musinsa.bench;
+
+import com.musinsa.MusinsaBackendAssignmentApplication;
+import com.musinsa.domain.Category;
+import com.musinsa.dto.CategoryStatResponse;
+import com.musinsa.dto.LowestByBrandResponse;
+import com.musinsa.dto.LowestByCategoryResponse;
+import com.musinsa.index.BrandBundleIndex;
+import com.musinsa.index.CategoryPriceIndex;
+import com.musinsa.index.PriceChange;
+import com.musinsa.repository.BrandRepository;
+import com.musinsa.repository.ProductRepository;
+import com.musinsa.seed.CatalogGenerator;
+import com.musinsa.seed.SeedProperties;
+import com.musinsa.service.PriceService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PriceService 조회 3종을 카탈로그 규모별로 측정 (CatalogGenerator 기본 분포)
+ * - path=index : 인메모리 인덱스 경로
+ * - path=db    : 인덱스 미로딩 상태의 JPA/H2 경로
+ *
+ * ./gradlew jmh -PjmhIncludes=PriceServiceBenchmark   (gc 프로파일러 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PriceServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int brands;
+
+    @Param({"index", "db"})
+    String path;
+
+    private ConfigurableApplicationContext ctx;
+    private PriceService priceService;
+    private final String categoryKr = Category.TOP.getKrName();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CategoryPriceIndex categoryIndex = new CategoryPriceIndex();
+        BrandBundleIndex bundleIndex = new BrandBundleIndex();
+        ProductRepository productRepo = null;
+        BrandRepository brandRepo = null;
+
+        if (path.equals("db")) {
+            ctx = new SpringApplicationBuilder(MusinsaBackendAssignmentApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .properties(
+                            "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL",
+                            "spring.sql.init.mode=never",
+                            "spring.jpa.show-sql=false",
+                            "logging.level.root=WARN",
+                            "musinsa.seed.brands=" + brands,
+                            "musinsa.seed.batch-size=10000")
+                    .run();
+            productRepo = ctx.getBean(ProductRepository.class);
+            brandRepo = ctx.getBean(BrandRepository.class);
+        } else {
+            List<PriceChange> rows = new CatalogGenerator(SeedProperties.ofBrands(brands)).toRows();
+            categoryIndex.reset(rows);
+            bundleIndex.reset(rows);
+        }
+        priceService = new PriceService(productRepo, brandRepo, categoryIndex, bundleIndex);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (ctx != null) {
+            ctx.close();
+        }
+    }
+
+    @Benchmark
+    public LowestByCategoryResponse lowestByCategory() {
+        return priceService.getLowestByCategory();
+    }
+
+    @Benchmark
+    public LowestByBrandResponse lowestBySingleBrand() {
+        return priceService.getLowestBySingleBrand();
+    }
+
+    @Benchmark
+    public CategoryStatResponse categoryStat() {
+        return priceService.getCategoryStat(categoryKr);
+    }
+}
@@ -2,8 +2,10 @@ package com.musinsa;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling   // outbox 릴레이
 public class MusinsaBackendAssignmentApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,107 @@
+package com.musinsa.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.index.BrandSetChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 브랜드명 목록 응답 캐시
+ * - 불변 이름 리스트 + 직렬화 바이트 + ETag 를 버전 단위 스냅샷으로 보관
+ * - 버전은 브랜드 생성·삭제 커밋 후에만 올라간다 (가격 변경과 무관, 가격 응답 캐시와 분리)
+ * - 페이지 요청은 같은 스냅샷을 잘라 직렬화, ETag 는 스냅샷 ETag + 페이지
+ * - brand.list.cache{result=hit|miss} 카운터 (miss = 스냅샷 재구성)
+ */
+@Component
+public class BrandListCache {
+
+    /** 페이지 크기 상한 */
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final Counter hits;
+    private final Counter misses;
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(long version, List<String> names, byte[] body, String etag) {}
+
+    public BrandListCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.hits = Counter.builder("brand.list.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("brand.list.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBrandSetChanged(BrandSetChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /** 전체 목록: 미리 직렬화된 바이트 그대로 */
+    public ResponseEntity<byte[]> respond(String ifNoneMatch, Supplier<List<String>> loader) {
+        Snapshot s = current(loader);
+        return JsonResponseCache.conditional(ifNoneMatch, s.etag(), s::body);
+    }
+
+    /** page(0부터)·size(1 ~ MAX_PAGE_SIZE) 구간만, 304 이면 직렬화도 생략 */
+    public ResponseEntity<byte[]> respondPage(int page, int size, String ifNoneMatch,
+                                              Supplier<List<String>> loader) {
+        Snapshot s = current(loader);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int total = s.names().size();
+        int from = (int) Math.min((long) Math.max(page, 0) * pageSize, total);
+        int to = Math.min(from + pageSize, total);
+        String etag = s.etag().substring(0, s.etag().length() - 1) + "-" + from + "-" + pageSize + "\"";
+        return JsonResponseCache.conditional(ifNoneMatch, etag,
+                () -> serialize(s.names().subList(from, to)));
+    }
+
+    private Snapshot current(Supplier<List<String>> loader) {
+        Snapshot s = snapshot;
+        if (s != null && s.version() == version.get()) {
+            hits.increment();
+            return s;
+        }
+        rebuildLock.lock();
+        try {
+            // 버전을 먼저 읽고 조회 → 조회 중 변경이 있으면 다음 요청에서 다시 재구성
+            long v = version.get();
+            s = snapshot;
+            if (s != null && s.version() == v) {
+                hits.increment();
+                return s;
+            }
+            misses.increment();
+            List<String> names = List.copyOf(loader.get());
+            byte[] body = serialize(names);
+            s = new Snapshot(v, names, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+            snapshot = s;
+            return s;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private byte[] serialize(List<String> names) {
+        try {
+            return objectMapper.writeValueAsBytes(names);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("응답 직렬화 실패", ex);
+        }
+    }
+}
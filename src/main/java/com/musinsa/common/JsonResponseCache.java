@@ -0,0 +1,117 @@
+package com.musinsa.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.outbox.RelayedPriceChanges;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 직렬화된 JSON 바이트 + 강한 ETag 캐시
+ * - 카탈로그 버전이 바뀌기 전까지 같은 바이트를 재사용
+ * - If-None-Match 가 일치하면 서비스·Jackson 호출 없이 304
+ * - price.response.cache{name, result=hit|miss} 카운터로 적중률 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /** "이름:hit|miss" → 카운터, 이름·결과 조합마다 처음 한 번만 등록 */
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private record Entry(long version, byte[] body, String etag) {}
+
+    /** 인덱스 갱신(@Order(0)) 이후에 버전을 올린다. */
+    @Order(10)
+    @EventListener
+    public void onCatalogChanged(RelayedPriceChanges event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        catalogVersion.incrementAndGet();
+    }
+
+    public ResponseEntity<byte[]> respond(String key, String ifNoneMatch, Supplier<?> loader) {
+        long version = catalogVersion.get();
+        Entry e = entries.get(key);
+        boolean hit = e != null && e.version() == version;
+        counter(key, hit).increment();
+        if (!hit) {
+            byte[] body = serialize(loader.get());
+            e = new Entry(version, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+            entries.put(key, e);
+        }
+
+        Entry cached = e;
+        return conditional(ifNoneMatch, cached.etag(), cached::body);
+    }
+
+    /** If-None-Match 가 일치하면 본문 없는 304, 아니면 200 + ETag (본문은 이때만 만든다) */
+    static ResponseEntity<byte[]> conditional(String ifNoneMatch, String etag, Supplier<byte[]> body) {
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.get());
+    }
+
+    /** 카테고리별 키("category-stat:상의")는 접두어로 묶어 태그 카디널리티를 고정 */
+    private Counter counter(String key, boolean hit) {
+        int colon = key.indexOf(':');
+        String name = colon < 0 ? key : key.substring(0, colon);
+        String result = hit ? "hit" : "miss";
+        return counters.computeIfAbsent(name + ':' + result, k -> Counter.builder("price.response.cache")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("응답 직렬화 실패", ex);
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
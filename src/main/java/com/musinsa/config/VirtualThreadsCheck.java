@@ -0,0 +1,25 @@
+package com.musinsa.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * vthreads 프로파일인데 Java 21 미만이면 Spring Boot 가 설정을 조용히 무시하므로 경고
+ */
+@Slf4j
+@Component
+@Profile("vthreads")
+public class VirtualThreadsCheck {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warnIfUnsupported() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            log.warn("vthreads 프로파일은 Java 21 이상이 필요합니다 (현재 {}). 플랫폼 스레드로 실행됩니다. "
+                    + "-PjavaVersion=21 로 실행하세요.", feature);
+        }
+    }
+}
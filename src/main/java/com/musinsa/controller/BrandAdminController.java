@@ -1,19 +1,24 @@
 // src/main/java/com/musinsa/controller/BrandAdminController.java
 package com.musinsa.controller;
 
+import com.musinsa.common.BrandListCache;
 import com.musinsa.common.ErrorResponse;
 import com.musinsa.dto.BrandRequest;
 import com.musinsa.service.BrandService;
+import com.musinsa.metrics.QueryBudget;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,6 +31,7 @@ import java.util.List;
 public class BrandAdminController {
 
     private final BrandService brandService;
+    private final BrandListCache brandListCache;
 
     /**
      * 신규 브랜드 등록
@@ -53,6 +59,7 @@ public class BrandAdminController {
             produces = MediaType.APPLICATION_JSON_VALUE
     )
     @ResponseStatus(HttpStatus.CREATED)
+    @QueryBudget(8)
     public void createBrand(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "등록할 브랜드 정보",
@@ -79,15 +86,53 @@ public class BrandAdminController {
     }
 
     /**
-     * 브랜드 이름 리스트 조회
+     * 브랜드 이름 리스트 조회 (등록(id) 순, page 지정 시 부분 목록, 브랜드 생성·삭제 전까지 캐시된 바이트 + ETag)
      */
-    @Operation(summary = "브랜드 목록 조회")
+    @Operation(summary = "브랜드 목록 조회",
+            description = "등록(id) 순. page 를 주면 size 개씩 잘라 반환, If-None-Match 가 일치하면 304")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "브랜드 리스트 반환")
+            @ApiResponse(responseCode = "200", description = "브랜드 리스트 반환",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class)))),
+            @ApiResponse(responseCode = "304", description = "변경 없음")
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public List<String> listBrands() {
-        return brandService.getAllBrandNames();
+    @QueryBudget(1)
+    public ResponseEntity<byte[]> listBrands(
+            @Parameter(description = "페이지 번호 (0부터, 생략 시 전체)", example = "0")
+            @RequestParam(required = false) Integer page,
+
+            @Parameter(description = "페이지 크기 (1 ~ 1000)", example = "100")
+            @RequestParam(defaultValue = "100") int size,
+
+            @Parameter(description = "이전 응답의 ETag")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        if (page == null) {
+            return brandListCache.respond(ifNoneMatch, brandService::getAllBrandNames);
+        }
+        return brandListCache.respondPage(page, size, ifNoneMatch, brandService::getAllBrandNames);
+    }
+
+    /**
+     * 브랜드명 자동완성
+     */
+    @Operation(summary = "브랜드명 자동완성", description = "prefix 로 시작하는 브랜드명(대소문자 무시)을 이름순으로 최대 limit 개 반환")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "일치하는 브랜드명 리스트")
+    })
+    @GetMapping(
+            value    = "/suggest",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @QueryBudget(0)
+    public List<String> suggestBrands(
+            @Parameter(description = "브랜드명 접두어", example = "A")
+            @RequestParam String prefix,
+
+            @Parameter(description = "최대 개수 (1 ~ 100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return brandService.suggestBrandNames(prefix, limit);
     }
 
     /**
@@ -104,6 +149,7 @@ public class BrandAdminController {
             value    = "/{name}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
+    @QueryBudget(2)
     public BrandRequest getBrand(
             @Parameter(description = "조회할 브랜드 이름", example = "Z")
             @PathVariable String name
@@ -137,6 +183,8 @@ public class BrandAdminController {
             consumes = MediaType.APPLICATION_JSON_VALUE
     )
     @ResponseStatus(HttpStatus.NO_CONTENT)
+    // 최악 10 (이름 조회·상품 조회·UPDATE·DELETE·INSERT·outbox INSERT 각 1 + 시퀀스 블록 경계 시 최대 4) + 여유 2
+    @QueryBudget(12)
     public void updateBrand(
             @Parameter(description = "수정할 브랜드 이름", example = "A")
             @PathVariable String name,
@@ -186,6 +234,7 @@ public class BrandAdminController {
     })
     @DeleteMapping("/{name}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
+    @QueryBudget(5)
     public void deleteBrand(
             @Parameter(description = "삭제할 브랜드 이름", example = "A")
             @PathVariable String name
@@ -1,11 +1,19 @@
 // src/main/java/com/musinsa/controller/PriceController.java
 package com.musinsa.controller;
 
+import com.musinsa.dto.BrandLeaderboardResponse;
+import com.musinsa.dto.BrandRankResponse;
+import com.musinsa.dto.CategoryRankingResponse;
 import com.musinsa.dto.CategoryStatResponse;
 import com.musinsa.dto.LowestByBrandResponse;
 import com.musinsa.dto.LowestByCategoryResponse;
+import com.musinsa.common.ApiException;
+import com.musinsa.common.ErrorCode;
 import com.musinsa.common.ErrorResponse;
+import com.musinsa.common.JsonResponseCache;
+import com.musinsa.service.PriceEventService;
 import com.musinsa.service.PriceService;
+import com.musinsa.metrics.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,8 +23,11 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Price", description = "가격 조회 API")
 @RestController
@@ -25,6 +36,8 @@ import org.springframework.web.bind.annotation.*;
 public class PriceController {
 
     private final PriceService priceService;
+    private final JsonResponseCache responseCache;
+    private final PriceEventService priceEventService;
 
     /** 카테고리별 최저가 브랜드와 가격 목록 조회 */
     @Operation(summary = "카테고리별 최저가 브랜드와 가격 목록 조회")
@@ -45,6 +58,7 @@ public class PriceController {
                             )
                     )
             ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "500", description = "서버 오류",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -64,8 +78,13 @@ public class PriceController {
             value    = "/categories/cheapest-brands",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public LowestByCategoryResponse getCheapestBrandsPerCategory() {
-        return priceService.getLowestByCategory();
+    @QueryBudget(1)
+    public ResponseEntity<byte[]> getCheapestBrandsPerCategory(
+            @Parameter(description = "이전 응답의 ETag")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return responseCache.respond("lowest-by-category", ifNoneMatch,
+                priceService::getLowestByCategory);
     }
 
     /** 단일 브랜드로 전체 카테고리 최저가 번들 조회 */
@@ -88,6 +107,7 @@ public class PriceController {
                             )
                     )
             ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "500", description = "서버 오류",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -107,12 +127,61 @@ public class PriceController {
             value    = "/brands/cheapest",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public LowestByBrandResponse getCheapestBrandBundle() {
-        return priceService.getLowestBySingleBrand();
+    @QueryBudget(2)
+    public ResponseEntity<byte[]> getCheapestBrandBundle(
+            @Parameter(description = "이전 응답의 ETag")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return responseCache.respond("lowest-by-brand", ifNoneMatch,
+                priceService::getLowestBySingleBrand);
+    }
+
+    /** 단일 브랜드 번들 총액 순위표 (offset 페이지) */
+    @Operation(summary = "단일 브랜드 번들 총액 순위표",
+            description = "모든 카테고리를 가진 브랜드를 총액 오름차순으로 offset 번째부터 limit 개(최대 100). "
+                    + "같은 총액은 같은 순위, 브랜드명 순")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BrandLeaderboardResponse.class)))
+    })
+    @GetMapping(
+            value    = "/brands/leaderboard",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @QueryBudget(2)
+    public BrandLeaderboardResponse getBrandLeaderboard(
+            @Parameter(description = "시작 위치 (0부터)", example = "0")
+            @RequestParam(defaultValue = "0") int offset,
+
+            @Parameter(description = "개수 (1 ~ 100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return priceService.getBrandLeaderboard(offset, limit);
+    }
+
+    /** 브랜드 한 곳의 번들 총액 순위 */
+    @Operation(summary = "브랜드 번들 총액 순위")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BrandRankResponse.class))),
+            @ApiResponse(responseCode = "404", description = "없는 브랜드이거나 모든 카테고리를 갖지 않은 브랜드",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(
+            value    = "/brands/{name}/rank",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @QueryBudget(2)
+    public BrandRankResponse getBrandRank(
+            @Parameter(description = "조회할 브랜드 이름", example = "D")
+            @PathVariable String name
+    ) {
+        return priceService.getBrandRank(name);
     }
 
     /** 특정 카테고리의 최저·최고 가격 조회 */
-    @Operation(summary = "특정 카테고리의 최저·최고 가격 조회")
+    @Operation(summary = "특정 카테고리의 최저·최고 가격 조회",
+            description = "detail=full 이면 가격 분포(count, mean, p50, p90, p99)를 함께 반환")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(
@@ -142,6 +211,7 @@ public class PriceController {
                             )
                     )
             ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "500", description = "서버 오류",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -161,13 +231,84 @@ public class PriceController {
             value    = "/categories/{category}/price-stats",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public CategoryStatResponse getCategoryPriceStats(
+    // 인덱스 로딩 전 detail=full 경로가 최악 5 (집계 1 + 분위수 3 + 양 끝 동률 1), 기본 경로는 2
+    @QueryBudget(5)
+    public ResponseEntity<byte[]> getCategoryPriceStats(
             @Parameter(
                     description = "조회할 카테고리 이름 (예: 상의)",
                     example     = "상의"
             )
-            @PathVariable String category
+            @PathVariable String category,
+            @Parameter(description = "full 이면 가격 분포(count, mean, p50, p90, p99) 포함", example = "full")
+            @RequestParam(required = false) String detail,
+            @Parameter(description = "이전 응답의 ETag")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return priceService.getCategoryStat(category);
+        if (detail == null) {
+            return responseCache.respond("category-stat:" + category, ifNoneMatch,
+                    () -> priceService.getCategoryStat(category));
+        }
+        if (!"full".equals(detail)) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "지원하지 않는 detail 값입니다: " + detail);
+        }
+        return responseCache.respond("category-stat-full:" + category, ifNoneMatch,
+                () -> priceService.getCategoryStatDetail(category));
+    }
+
+    /** 카테고리 최저가 순위 (offset 페이지) */
+    @Operation(summary = "카테고리 최저가 순위",
+            description = "가격 오름차순으로 offset 번째부터 limit 개(최대 100). 같은 가격은 같은 순위, 브랜드명 순")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CategoryRankingResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 카테고리명",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "카테고리에 상품 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(
+            value    = "/categories/{category}/ranking",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @QueryBudget(2)
+    public CategoryRankingResponse getCategoryRanking(
+            @Parameter(description = "조회할 카테고리 이름 (예: 상의)", example = "상의")
+            @PathVariable String category,
+
+            @Parameter(description = "시작 위치 (0부터)", example = "0")
+            @RequestParam(defaultValue = "0") int offset,
+
+            @Parameter(description = "개수 (1 ~ 100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return priceService.getCategoryRanking(category, offset, limit);
+    }
+
+    /** 가격 변경 스트림 (SSE) */
+    @Operation(summary = "가격 변경 스트림 (SSE)",
+            description = "구독 직후 현재 상태를, 이후에는 바뀐 항목만 전송합니다. "
+                    + "event: category (카테고리 최저·최고가), cheapest-brand (단일 브랜드 최저가)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "스트림 시작",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            examples = @ExampleObject(
+                                    name  = "Events",
+                                    value = "event:category\n" +
+                                            "data:{\"category\":\"상의\",\"minPrice\":10000,\"minBrands\":[\"C\"],"
+                                            + "\"maxPrice\":11400,\"maxBrands\":[\"I\"]}\n\n" +
+                                            "event:cheapest-brand\n" +
+                                            "data:{\"brand\":\"D\",\"total\":36100}\n"
+                            )
+                    )
+            )
+    })
+    @GetMapping(
+            value    = "/price-events",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    @QueryBudget(0)
+    public SseEmitter streamPriceEvents() {
+        return priceEventService.subscribe();
     }
 }
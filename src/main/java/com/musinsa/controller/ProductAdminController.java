@@ -1,13 +1,21 @@
 // src/main/java/com/musinsa/controller/ProductAdminController.java
 package com.musinsa.controller;
 
+import com.musinsa.common.ApiException;
+import com.musinsa.common.ErrorCode;
 import com.musinsa.common.ErrorResponse;
 import com.musinsa.domain.Category;
+import com.musinsa.dto.BulkImportResponse;
+import com.musinsa.dto.BulkPriceUpdateRequest;
 import com.musinsa.dto.CreateProductRequest;
+import com.musinsa.dto.ProductPageResponse;
 import com.musinsa.dto.UpdateProductRequest;
 import com.musinsa.dto.ProductResponse;
 import com.musinsa.domain.Product;
+import com.musinsa.service.ProductExportService;
+import com.musinsa.service.ProductImportService;
 import com.musinsa.service.ProductService;
+import com.musinsa.metrics.QueryBudget;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,18 +25,30 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Tag(name = "ProductAdmin", description = "상품 관리 API")
 @RestController
 @RequestMapping("/api/v1/products")
 @RequiredArgsConstructor
 public class ProductAdminController {
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
     private final ProductService productService;
+    private final ProductImportService importService;
+    private final ProductExportService exportService;
 
     /**
      * 개별 상품 등록
@@ -84,6 +104,7 @@ public class ProductAdminController {
             produces = MediaType.APPLICATION_JSON_VALUE
     )
     @ResponseStatus(HttpStatus.CREATED)
+    @QueryBudget(8)
     public ProductResponse createProduct(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "생성할 상품 정보",
@@ -103,6 +124,9 @@ public class ProductAdminController {
             )
             @RequestBody CreateProductRequest req
     ) {
+        if (req.getPrice() == null) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "가격은 필수입니다.");
+        }
         Product saved = productService.createProduct(
                 req.getBrand(),
                 req.getCategory(),
@@ -119,20 +143,143 @@ public class ProductAdminController {
     }
 
     /**
-     * 상품 목록 조회
+     * 상품 대량 등록 (NDJSON / CSV 스트리밍)
+     */
+    @Operation(summary = "상품 대량 등록",
+            description = "NDJSON(한 줄에 {brand, category, price}) 또는 RFC 4180 CSV([id,]brand,category,price, "
+                    + "내보내기 결과 그대로 가능) 본문을 1000행 단위로 검증·배치 등록하고, 실패 행은 줄 번호와 함께 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 결과",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema    = @Schema(implementation = BulkImportResponse.class),
+                            examples  = @ExampleObject(
+                                    name  = "ImportReport",
+                                    value = "{\n" +
+                                            "  \"total\": 3,\n" +
+                                            "  \"imported\": 2,\n" +
+                                            "  \"failed\": 1,\n" +
+                                            "  \"errors\": [{\"line\": 2, \"message\": \"유효하지 않은 카테고리명입니다: '상의2'.\"}]\n" +
+                                            "}"
+                            )
+                    )
+            )
+    })
+    @PostMapping(
+            value    = "/bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @QueryBudget(value = QueryBudget.UNBOUNDED,
+            reason = "1000행 청크마다 브랜드·중복 조회 2회 + outbox 기록, 입력 크기에 비례 (INSERT 는 JDBC 배치)")
+    public BulkImportResponse importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws IOException {
+        // consumes 매칭과 같이 대소문자·파라미터 무시 (Text/CSV; charset=UTF-8 도 CSV)
+        ProductImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(TEXT_CSV)
+                ? ProductImportService.Format.CSV
+                : ProductImportService.Format.NDJSON;
+        return importService.importProducts(body, format);
+    }
+
+    /**
+     * 전체 상품 내보내기 (스트리밍)
+     */
+    @Operation(summary = "전체 상품 내보내기",
+            description = "전체 카탈로그를 id 순으로 NDJSON 또는 CSV 로 스트리밍합니다. 서버 메모리에 목록을 만들지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "스트림 시작",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    examples  = @ExampleObject(
+                                            name  = "Ndjson",
+                                            value = "{\"id\":1,\"brand\":\"A\",\"category\":\"상의\",\"price\":11200}\n"
+                                    )
+                            ),
+                            @Content(
+                                    mediaType = "text/csv",
+                                    examples  = @ExampleObject(
+                                            name  = "Csv",
+                                            value = "id,brand,category,price\n1,A,상의,11200\n"
+                                    )
+                            )
+                    }
+            ),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 format (ndjson | csv 외)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/export")
+    @QueryBudget(0)   // 본문은 비동기 스레드에서 JdbcTemplate 커서로 스트리밍
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @Parameter(description = "출력 형식 (ndjson | csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ProductExportService.Format f;
+        if ("csv".equalsIgnoreCase(format)) {
+            f = ProductExportService.Format.CSV;
+        } else if ("ndjson".equalsIgnoreCase(format)) {
+            f = ProductExportService.Format.NDJSON;
+        } else {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "지원하지 않는 format 값입니다: " + format);
+        }
+        String filename = f == ProductExportService.Format.CSV ? "products.csv" : "products.ndjson";
+        MediaType type = f == ProductExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+
+        return ResponseEntity.ok()
+                .contentType(type)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> exportService.export(out, f));
+    }
+
+    /**
+     * 상품 목록 조회 (키셋 페이지네이션)
      */
-    @Operation(summary = "상품 목록 조회")
+    @Operation(summary = "상품 목록 조회",
+            description = "id 오름차순 페이지. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "상품 리스트 반환",
+            @ApiResponse(responseCode = "200", description = "상품 페이지 반환",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
-                            schema    = @Schema(implementation = ProductResponse.class)
+                            schema    = @Schema(implementation = ProductPageResponse.class),
+                            examples  = @ExampleObject(
+                                    name  = "ProductPage",
+                                    value = "{\n" +
+                                            "  \"items\": [\n" +
+                                            "    {\"id\": 1, \"brand\": \"A\", \"category\": \"TOP\", \"price\": 11200}\n" +
+                                            "  ],\n" +
+                                            "  \"nextCursor\": \"djE6MQ\"\n" +
+                                            "}"
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 카테고리",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema    = @Schema(implementation = ErrorResponse.class)
                     )
             )
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public List<ProductResponse> listProducts() {
-        return productService.getAllProducts();
+    @QueryBudget(1)
+    public ProductPageResponse listProducts(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 1000)", example = "100")
+            @RequestParam(defaultValue = "100") int size,
+
+            @Parameter(description = "카테고리명 필터", example = "상의")
+            @RequestParam(required = false) String category,
+
+            @Parameter(description = "브랜드명 필터", example = "A")
+            @RequestParam(required = false) String brand
+    ) {
+        return productService.getProducts(cursor, size, category, brand);
     }
 
     /**
@@ -174,6 +321,7 @@ public class ProductAdminController {
             value    = "/{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
+    @QueryBudget(2)
     public ProductResponse getProduct(
             @Parameter(description = "조회할 상품 ID", example = "1")
             @PathVariable Long id
@@ -207,6 +355,7 @@ public class ProductAdminController {
             consumes = MediaType.APPLICATION_JSON_VALUE
     )
     @ResponseStatus(HttpStatus.NO_CONTENT)
+    @QueryBudget(8)
     public void updateProduct(
             @Parameter(description = "수정할 상품 ID", example = "1")
             @PathVariable Long id,
@@ -230,6 +379,74 @@ public class ProductAdminController {
         productService.updateProduct(id, req.getPrice());
     }
 
+    /**
+     * 상품 가격 일괄 수정
+     */
+    @Operation(summary = "상품 가격 일괄 수정",
+            description = "(id, price) 목록을 한 트랜잭션에서 반영합니다. 최대 " + ProductService.MAX_PRICE_UPDATES
+                    + "개, 가격은 0보다 커야 하며 없는 ID 가 하나라도 있으면 전체가 취소됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "수정 성공 (본문 없음)"),
+            @ApiResponse(responseCode = "400", description = "빈 목록, 상한 초과, ID 누락 또는 0 이하 가격",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "상품 없음",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema    = @Schema(implementation = ErrorResponse.class),
+                            examples  = @ExampleObject(
+                                    name  = "ProductNotFound",
+                                    value = "{\n" +
+                                            "  \"status\": 404,\n" +
+                                            "  \"code\": \"PRODUCT_NOT_FOUND\",\n" +
+                                            "  \"message\": \"상품 ID [7, 9]를 찾을 수 없습니다.\"\n" +
+                                            "}"
+                            )
+                    )
+            )
+    })
+    @PutMapping(
+            value    = "/prices",
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @QueryBudget(80)  // 최대 1000건: 조회 1 + UPDATE 배치 20 + outbox 시퀀스 21·INSERT 배치 20 = 62, 여유 포함
+    public void updatePrices(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "수정할 (상품 ID, 가격) 목록",
+                    required    = true,
+                    content     = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema    = @Schema(implementation = BulkPriceUpdateRequest.class),
+                            examples  = @ExampleObject(
+                                    name  = "BulkPriceUpdate",
+                                    value = "{\n" +
+                                            "  \"items\": [\n" +
+                                            "    {\"id\": 1, \"price\": 12000},\n" +
+                                            "    {\"id\": 2, \"price\": 5500}\n" +
+                                            "  ]\n" +
+                                            "}"
+                            )
+                    )
+            )
+            @RequestBody BulkPriceUpdateRequest req
+    ) {
+        if (req.getItems() == null) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "items 는 필수입니다.");
+        }
+        Map<Long, Integer> newPrices = new LinkedHashMap<>();
+        for (BulkPriceUpdateRequest.Item item : req.getItems()) {
+            if (item == null || item.getId() == null) {
+                throw new ApiException(ErrorCode.VALIDATION_ERROR, "상품 ID 는 필수입니다.");
+            }
+            if (item.getPrice() == null) {
+                throw new ApiException(ErrorCode.VALIDATION_ERROR,
+                        String.format("상품 ID %d의 가격은 필수입니다.", item.getId()));
+            }
+            newPrices.put(item.getId(), item.getPrice());
+        }
+        productService.updatePrices(newPrices);
+    }
+
     /**
      * 상품 삭제
      */
@@ -253,6 +470,7 @@ public class ProductAdminController {
     })
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
+    @QueryBudget(8)
     public void deleteProduct(
             @Parameter(description = "삭제할 상품 ID", example = "1")
             @PathVariable Long id
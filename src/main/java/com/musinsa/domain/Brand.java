@@ -17,7 +17,9 @@ import java.util.List;
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Brand {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "brand_seq")
+    @SequenceGenerator(name = "brand_seq", sequenceName = "brand_seq",
+            allocationSize = 50)   // SequenceIdAllocator.ALLOCATION_SIZE 와 동일
     private Long id;
 
     @Column(unique = true, nullable = false)
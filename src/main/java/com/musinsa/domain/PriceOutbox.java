@@ -0,0 +1,30 @@
+// domain/PriceOutbox.java
+package com.musinsa.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 가격 변경 outbox 행
+ * - 쓰기 트랜잭션 안에서 (브랜드, 카테고리) 키만 기록, 가격은 릴레이가 전달 시점에 DB 에서 다시 읽는다.
+ */
+@Getter @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "price_outbox")
+public class PriceOutbox {
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "price_outbox_seq")
+    @SequenceGenerator(name = "price_outbox_seq", sequenceName = "price_outbox_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String brand;
+
+    @Enumerated(EnumType.STRING) @Column(nullable = false)
+    private Category category;
+
+    public PriceOutbox(String brand, Category category) {
+        this.brand = brand;
+        this.category = category;
+    }
+}
@@ -12,7 +12,9 @@ import lombok.*;
     indexes = @Index(name = "idx_product_category", columnList = "category")
 )
 public class Product {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq",
+            allocationSize = 50)   // SequenceIdAllocator.ALLOCATION_SIZE 와 동일
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "brand_id")
@@ -29,4 +31,9 @@ public class Product {
         this.category = category;
         this.price = price;
     }
+
+    /** 모든 쓰기 경로(단건·일괄·대량 등록·브랜드 가격표)에 공통인 가격 규칙: 1원 이상 */
+    public static boolean isValidPrice(Integer price) {
+        return price != null && price > 0;
+    }
 }
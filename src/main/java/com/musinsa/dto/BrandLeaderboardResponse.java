@@ -0,0 +1,26 @@
+package com.musinsa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 단일 브랜드 번들 총액 순위표 페이지
+ */
+@Schema(description = "번들 총액 오름차순 브랜드 순위표")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED, force = true)
+@AllArgsConstructor
+public class BrandLeaderboardResponse {
+
+    @Schema(description = "모든 카테고리를 가진 브랜드 수", example = "9")
+    private final int brands;
+
+    @Schema(description = "요청 시작 위치 (0부터)", example = "0")
+    private final int offset;
+
+    @Schema(description = "총액 오름차순 순위 (동률은 브랜드명 순)")
+    private final List<BrandRankResponse> items;
+}
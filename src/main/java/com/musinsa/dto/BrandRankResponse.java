@@ -0,0 +1,23 @@
+package com.musinsa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * 단일 브랜드 번들 총액 순위
+ */
+@Schema(description = "모든 카테고리를 가진 브랜드의 번들 총액 순위")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED, force = true)
+@AllArgsConstructor
+public class BrandRankResponse {
+
+    @Schema(description = "순위 (1부터, 같은 총액은 같은 순위)", example = "1")
+    private final int rank;
+
+    @Schema(description = "브랜드명", example = "D")
+    private final String brand;
+
+    @Schema(description = "번들 총액", example = "36100")
+    private final int total;
+}
@@ -0,0 +1,40 @@
+package com.musinsa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 상품 대량 등록 결과
+ */
+@Schema(description = "상품 대량 등록 결과")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED, force = true)
+@AllArgsConstructor
+public class BulkImportResponse {
+
+    @Schema(description = "처리한 행 수", example = "1000")
+    private final int total;
+
+    @Schema(description = "등록된 행 수", example = "998")
+    private final int imported;
+
+    @Schema(description = "실패한 행 수", example = "2")
+    private final int failed;
+
+    @Schema(description = "실패 행 목록 (최대 1000건)")
+    private final List<RowError> errors;
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED, force = true)
+    @AllArgsConstructor
+    public static class RowError {
+        @Schema(description = "요청 본문 내 줄 번호", example = "17")
+        private final int line;
+
+        @Schema(description = "실패 사유", example = "유효하지 않은 카테고리명입니다: '상의2'.")
+        private final String message;
+    }
+}
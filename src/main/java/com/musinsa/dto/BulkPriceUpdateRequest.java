@@ -0,0 +1,33 @@
+package com.musinsa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상품 가격 일괄 수정 요청 DTO
+ */
+@Schema(description = "상품 가격 일괄 수정 요청")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BulkPriceUpdateRequest {
+
+        @Schema(description = "수정 목록 (같은 id 가 여러 번 오면 마지막 값 적용)")
+        private List<Item> items;
+
+        @Getter
+        @NoArgsConstructor(access = AccessLevel.PROTECTED)
+        @AllArgsConstructor
+        public static class Item {
+                @Schema(description = "상품 ID", example = "1")
+                private Long id;
+
+                @Schema(description = "수정할 가격 (1 이상)", example = "12000")
+                private Integer price;
+        }
+}
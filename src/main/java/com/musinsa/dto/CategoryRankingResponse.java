@@ -0,0 +1,33 @@
+// dto/CategoryRankingResponse.java
+package com.musinsa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Schema(description = "카테고리 최저가 순위 응답")
+@Getter @Builder @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor
+public class CategoryRankingResponse {
+    @Schema(description = "카테고리 이름", example = "상의")
+    private String category;
+
+    @Schema(description = "카테고리에 상품이 있는 브랜드 수", example = "9")
+    private int total;
+
+    @Schema(description = "요청 시작 위치 (0부터)", example = "0")
+    private int offset;
+
+    @Schema(description = "가격 오름차순 순위 (동률은 같은 순위, 브랜드명 순)")
+    private List<RankedBrand> items;
+
+    @Getter @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor
+    public static class RankedBrand {
+        @Schema(description = "순위 (1부터)", example = "1")
+        private int rank;
+        @Schema(description = "브랜드명", example = "C")
+        private String brand;
+        @Schema(description = "가격", example = "10000")
+        private int price;
+    }
+}
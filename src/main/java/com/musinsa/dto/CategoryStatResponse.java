@@ -1,6 +1,7 @@
 // dto/CategoryStatResponse.java
 package com.musinsa.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -18,6 +19,10 @@ public class CategoryStatResponse {
     @Schema(description = "최고가 브랜드 목록")
     private List<BrandPrice> highest;
 
+    @Schema(description = "가격 분포 (detail=full 일 때만)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Distribution distribution;
+
     @Getter @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor
     public static class BrandPrice {
         @Schema(description = "브랜드명", example = "C")
@@ -25,4 +30,18 @@ public class CategoryStatResponse {
         @Schema(description = "가격", example = "10000")
         private int price;
     }
+
+    @Getter @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor
+    public static class Distribution {
+        @Schema(description = "상품 수", example = "9")
+        private int count;
+        @Schema(description = "평균가", example = "10522.22")
+        private double mean;
+        @Schema(description = "중앙값 (nearest-rank)", example = "10500")
+        private int p50;
+        @Schema(description = "90 백분위", example = "11200")
+        private int p90;
+        @Schema(description = "99 백분위", example = "11400")
+        private int p99;
+    }
 }
@@ -19,6 +19,6 @@ public class CreateProductRequest {
         @Schema(description = "카테고리명", example = "상의")
         private String category;
 
-        @Schema(description = "가격", example = "11200")
-        private int price;
+        @Schema(description = "가격 (1 이상)", example = "11200")
+        private Integer price;
 }
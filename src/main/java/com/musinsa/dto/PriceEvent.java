@@ -0,0 +1,51 @@
+package com.musinsa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * /price-events SSE 로 내보내는 변경분(delta)
+ * - category       : 카테고리 최저·최고가가 바뀜 (카테고리에 상품이 없으면 가격 null, 브랜드 빈 목록)
+ * - cheapest-brand : 단일 브랜드 최저가 브랜드·총액이 바뀜 (해당 브랜드가 없으면 null)
+ */
+public final class PriceEvent {
+
+    public static final String CATEGORY = "category";
+    public static final String CHEAPEST_BRAND = "cheapest-brand";
+
+    private PriceEvent() {}
+
+    @Schema(description = "카테고리 최저·최고가 변경")
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED, force = true)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    public static class CategoryExtremes {
+        @Schema(description = "카테고리명", example = "상의")
+        private final String category;
+        @Schema(description = "최저가", example = "10000")
+        private final Integer minPrice;
+        @Schema(description = "최저가 브랜드")
+        private final List<String> minBrands;
+        @Schema(description = "최고가", example = "11400")
+        private final Integer maxPrice;
+        @Schema(description = "최고가 브랜드")
+        private final List<String> maxBrands;
+    }
+
+    @Schema(description = "단일 브랜드 최저가 변경")
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED, force = true)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    public static class CheapestBrand {
+        @Schema(description = "브랜드명", example = "D")
+        private final String brand;
+        @Schema(description = "총액", example = "36100")
+        private final Integer total;
+    }
+}
@@ -0,0 +1,22 @@
+package com.musinsa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 상품 목록 한 페이지 (키셋 페이지네이션)
+ */
+@Schema(description = "상품 목록 페이지")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED, force = true)
+@AllArgsConstructor
+public class ProductPageResponse {
+
+    @Schema(description = "상품 목록 (id 오름차순)")
+    private final List<ProductResponse> items;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "djE6MTAw")
+    private final String nextCursor;
+}
@@ -0,0 +1,164 @@
+package com.musinsa.index;
+
+import com.musinsa.domain.Category;
+import com.musinsa.outbox.RelayedPriceChanges;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 단일 브랜드 번들 총액 인덱스
+ * - 모든 카테고리를 가진 브랜드만 (총액, 브랜드명) 순서 통계 트리에 유지
+ * - 상품 변경 1건당 O(log n), 최저 번들 조회는 스냅샷 O(1)
+ * - 순위표 페이지 O(log n + k), 브랜드 한 곳의 순위 O(log n)
+ */
+@Component
+public class BrandBundleIndex {
+
+    private static final int CATEGORY_COUNT = Category.values().length;
+    private static final Comparator<Key> ORDER =
+            Comparator.comparingInt(Key::total).thenComparing(Key::brand);
+
+    private final Map<String, Slots> slotsByBrand = new HashMap<>();
+    private final OrderStatisticTree<Key> complete = new OrderStatisticTree<>(ORDER);
+    private volatile Bundle cheapest;
+    private volatile boolean loaded;
+
+    /** 번들 구성(카테고리 순서)과 총액 */
+    public record Bundle(String brand, Map<Category, Integer> prices, int total) {}
+
+    /** 순위표 1건, 같은 총액은 같은 순위 (1, 2, 2, 4 …) */
+    public record Standing(int rank, String brand, int total) {}
+
+    /** 모든 카테고리를 가진 브랜드 수와 요청 구간 */
+    public record Leaderboard(int brands, List<Standing> items) {}
+
+    private record Key(int total, String brand) {}
+
+    public synchronized void reset(Collection<PriceChange> rows) {
+        slotsByBrand.clear();
+        complete.clear();
+        rows.forEach(this::applyOne);
+        publish();
+        loaded = true;
+    }
+
+    public synchronized void apply(Collection<PriceChange> changes) {
+        changes.forEach(this::applyOne);
+        publish();
+    }
+
+    @Order(0)
+    @EventListener
+    public void onCatalogChanged(RelayedPriceChanges event) {
+        apply(event.changes());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /** 모든 카테고리를 가진 브랜드가 없으면 null */
+    public Bundle cheapest() {
+        return cheapest;
+    }
+
+    /** 총액 오름차순(동률은 브랜드명) offset 번째부터 최대 limit 개 */
+    public synchronized Leaderboard leaderboard(int offset, int limit) {
+        List<Key> keys = complete.range(offset, limit);
+        List<Standing> items = new ArrayList<>(keys.size());
+        int rank = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            Key k = keys.get(i);
+            if (i == 0) {
+                rank = rankOf(k.total());
+            } else if (k.total() != keys.get(i - 1).total()) {
+                rank = offset + i + 1;
+            }
+            items.add(new Standing(rank, k.brand(), k.total()));
+        }
+        return new Leaderboard(complete.size(), items);
+    }
+
+    /** 모든 카테고리를 가진 브랜드가 아니면 null */
+    public synchronized Standing standing(String brand) {
+        Slots s = slotsByBrand.get(brand);
+        if (s == null || !s.isComplete()) {
+            return null;
+        }
+        return new Standing(rankOf(s.total), brand, s.total);
+    }
+
+    /** 같은 총액의 첫 위치 + 1 ("" 는 어떤 브랜드명보다 앞) */
+    private int rankOf(int total) {
+        return complete.rank(new Key(total, "")) + 1;
+    }
+
+    private void applyOne(PriceChange ch) {
+        Slots s = slotsByBrand.get(ch.brand());
+        if (s == null) {
+            if (ch.isRemoval()) {
+                return;
+            }
+            s = new Slots();
+            slotsByBrand.put(ch.brand(), s);
+        }
+        if (s.isComplete()) {
+            complete.remove(new Key(s.total, ch.brand()));
+        }
+
+        s.set(ch.category().ordinal(), ch.isRemoval() ? Slots.EMPTY : ch.price());
+
+        if (s.filled == 0) {
+            slotsByBrand.remove(ch.brand());
+        } else if (s.isComplete()) {
+            complete.add(new Key(s.total, ch.brand()));
+        }
+    }
+
+    private void publish() {
+        if (complete.isEmpty()) {
+            cheapest = null;
+            return;
+        }
+        Key best = complete.select(0);
+        int[] prices = slotsByBrand.get(best.brand()).prices;
+        Map<Category, Integer> byCategory = new EnumMap<>(Category.class);
+        for (Category c : Category.values()) {
+            byCategory.put(c, prices[c.ordinal()]);
+        }
+        cheapest = new Bundle(best.brand(), Collections.unmodifiableMap(byCategory), best.total());
+    }
+
+    /** 브랜드 한 곳의 카테고리별 가격 슬롯 */
+    private static final class Slots {
+        static final int EMPTY = -1;
+
+        final int[] prices = new int[CATEGORY_COUNT];
+        int filled;
+        int total;
+
+        Slots() {
+            Arrays.fill(prices, EMPTY);
+        }
+
+        void set(int slot, int price) {
+            int old = prices[slot];
+            if (old != EMPTY) {
+                filled--;
+                total -= old;
+            }
+            prices[slot] = price;
+            if (price != EMPTY) {
+                filled++;
+                total += price;
+            }
+        }
+
+        boolean isComplete() {
+            return filled == CATEGORY_COUNT;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.musinsa.index;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 브랜드명 접두어 인덱스 (자동완성)
+ * - 소문자 키로 정렬된 skip list, 조회는 tailMap 에서 k 개만 읽어 O(log n + k)
+ * - 생성·삭제 커밋 후 한 건씩 O(log n) 갱신, 조회는 잠금 없음
+ */
+@Component
+public class BrandNameIndex {
+
+    /** 대소문자만 다른 이름도 구분되도록 원래 이름을 키 뒤에 붙인다 */
+    private static final char SEPARATOR = '\u0000';
+
+    private volatile ConcurrentSkipListMap<String, String> names = new ConcurrentSkipListMap<>();
+
+    public void reset(Collection<String> all) {
+        ConcurrentSkipListMap<String, String> next = new ConcurrentSkipListMap<>();
+        all.forEach(n -> next.put(key(n), n));
+        names = next;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBrandSetChanged(BrandSetChangedEvent event) {
+        if (event.removed()) {
+            names.remove(key(event.brand()));
+        } else {
+            names.put(key(event.brand()), event.brand());
+        }
+    }
+
+    /** prefix 로 시작하는 브랜드명(대소문자 무시) 을 정렬 순으로 최대 limit 개 */
+    public List<String> suggest(String prefix, int limit) {
+        String folded = fold(prefix);
+        List<String> out = new ArrayList<>(Math.min(limit, 16));
+        for (Map.Entry<String, String> e : names.tailMap(folded).entrySet()) {
+            if (out.size() == limit || !e.getKey().startsWith(folded)) {
+                break;
+            }
+            out.add(e.getValue());
+        }
+        return out;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    private static String key(String name) {
+        return fold(name) + SEPARATOR + name;
+    }
+
+    private static String fold(String s) {
+        return s.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,16 @@
+package com.musinsa.index;
+
+/**
+ * 브랜드 생성·삭제 (가격과 무관한 브랜드 목록 변경)
+ * - 커밋 후 @TransactionalEventListener 로 이름 인덱스·목록 캐시에 전달된다.
+ */
+public record BrandSetChangedEvent(String brand, boolean removed) {
+
+    public static BrandSetChangedEvent created(String brand) {
+        return new BrandSetChangedEvent(brand, false);
+    }
+
+    public static BrandSetChangedEvent deleted(String brand) {
+        return new BrandSetChangedEvent(brand, true);
+    }
+}
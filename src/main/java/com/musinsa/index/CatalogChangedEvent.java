@@ -0,0 +1,18 @@
+package com.musinsa.index;
+
+import java.util.List;
+
+/**
+ * 쓰기 트랜잭션에서 발생한 가격 변경 묶음
+ * - 같은 트랜잭션에서 outbox 에 기록되고(PriceOutboxWriter), 릴레이가 커밋 후 비동기로 인덱스·캐시에 전달한다.
+ */
+public record CatalogChangedEvent(List<PriceChange> changes) {
+
+    public CatalogChangedEvent {
+        changes = List.copyOf(changes);
+    }
+
+    public static CatalogChangedEvent of(PriceChange... changes) {
+        return new CatalogChangedEvent(List.of(changes));
+    }
+}
@@ -0,0 +1,192 @@
+package com.musinsa.index;
+
+import com.musinsa.domain.Category;
+import com.musinsa.outbox.RelayedPriceChanges;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 카테고리별 최저·최고가 인메모리 인덱스
+ * - 쓰기: 변경된 카테고리만 O(log n) 갱신 후 스냅샷 교체
+ * - 읽기: volatile 스냅샷 조회만 하므로 O(1), DB 접근 없음
+ * - 순위: 카테고리별 (가격, 브랜드명) 순서 통계 트리에서 O(log n + k) 페이지 조회
+ * - 분포: 개수·합계는 변경마다 갱신, 분위수는 같은 트리에서 select 로 O(log n) 정확값
+ */
+@Component
+public class CategoryPriceIndex {
+
+    private final Map<Category, Book> books = new EnumMap<>(Category.class);
+    private volatile Map<Category, Extremes> snapshot = new EnumMap<>(Category.class);
+    private volatile boolean loaded;
+
+    public CategoryPriceIndex() {
+        for (Category c : Category.values()) {
+            books.put(c, new Book());
+        }
+    }
+
+    /** 최저·최고가와 동률 브랜드 목록 (브랜드명 오름차순) */
+    public record Extremes(int minPrice, List<String> minBrands,
+                           int maxPrice, List<String> maxBrands) {}
+
+    /** 순위 1건, 같은 가격은 같은 순위 (1, 2, 2, 4 …) */
+    public record Ranked(int rank, String brand, int price) {}
+
+    /** 카테고리 전체 브랜드 수와 요청 구간 */
+    public record Ranking(int total, List<Ranked> items) {}
+
+    /** 가격 분포, 분위수는 nearest-rank (정렬된 가격 중 ceil(q·n) 번째) */
+    public record Distribution(int count, double mean, int p50, int p90, int p99) {
+
+        /** 크기 n 정렬 목록에서 permille/1000 분위수의 0-기반 위치, 정수 연산으로 ceil 해 부동소수 오차가 없다 */
+        public static int nearestRank(int n, int permille) {
+            return (int) (((long) n * permille + 999) / 1000) - 1;
+        }
+    }
+
+    /** 전체 상품으로 인덱스를 다시 만든다. */
+    public synchronized void reset(Collection<PriceChange> rows) {
+        books.values().forEach(Book::clear);
+        for (PriceChange r : rows) {
+            books.get(r.category()).apply(r);
+        }
+        publish(EnumSet.allOf(Category.class));
+        loaded = true;
+    }
+
+    /** 변경분을 반영하고, 영향받은 카테고리의 스냅샷만 갱신한다. */
+    public synchronized void apply(Collection<PriceChange> changes) {
+        Set<Category> touched = EnumSet.noneOf(Category.class);
+        for (PriceChange ch : changes) {
+            books.get(ch.category()).apply(ch);
+            touched.add(ch.category());
+        }
+        if (!touched.isEmpty()) {
+            publish(touched);
+        }
+    }
+
+    @Order(0)
+    @EventListener
+    public void onCatalogChanged(RelayedPriceChanges event) {
+        apply(event.changes());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /** 상품이 하나도 없는 카테고리는 null */
+    public Extremes extremes(Category category) {
+        return snapshot.get(category);
+    }
+
+    /** 가격 오름차순(동률은 브랜드명) offset 번째부터 최대 limit 개 */
+    public synchronized Ranking ranking(Category category, int offset, int limit) {
+        return books.get(category).ranking(offset, limit);
+    }
+
+    /** 상품이 하나도 없는 카테고리는 null */
+    public synchronized Distribution distribution(Category category) {
+        return books.get(category).distribution();
+    }
+
+    private void publish(Set<Category> touched) {
+        Map<Category, Extremes> next = new EnumMap<>(Category.class);
+        next.putAll(snapshot);
+        for (Category c : touched) {
+            Extremes e = books.get(c).extremes();
+            if (e == null) {
+                next.remove(c);
+            } else {
+                next.put(c, e);
+            }
+        }
+        snapshot = next;
+    }
+
+    private record PriceKey(int price, String brand) {}
+
+    private static final Comparator<PriceKey> BY_PRICE =
+            Comparator.comparingInt(PriceKey::price).thenComparing(PriceKey::brand);
+
+    /** 한 카테고리의 브랜드→가격, 가격→브랜드 집합, (가격, 브랜드) 순서 통계 트리 */
+    private static final class Book {
+        private final Map<String, Integer> priceByBrand = new HashMap<>();
+        private final TreeMap<Integer, TreeSet<String>> brandsByPrice = new TreeMap<>();
+        private final OrderStatisticTree<PriceKey> ranked = new OrderStatisticTree<>(BY_PRICE);
+        private long sum;
+
+        void apply(PriceChange ch) {
+            Integer old = ch.isRemoval()
+                    ? priceByBrand.remove(ch.brand())
+                    : priceByBrand.put(ch.brand(), ch.price());
+            if (old != null) {
+                TreeSet<String> tied = brandsByPrice.get(old);
+                tied.remove(ch.brand());
+                if (tied.isEmpty()) {
+                    brandsByPrice.remove(old);
+                }
+                ranked.remove(new PriceKey(old, ch.brand()));
+                sum -= old;
+            }
+            if (!ch.isRemoval()) {
+                brandsByPrice.computeIfAbsent(ch.price(), k -> new TreeSet<>()).add(ch.brand());
+                ranked.add(new PriceKey(ch.price(), ch.brand()));
+                sum += ch.price();
+            }
+        }
+
+        void clear() {
+            priceByBrand.clear();
+            brandsByPrice.clear();
+            ranked.clear();
+            sum = 0;
+        }
+
+        Ranking ranking(int offset, int limit) {
+            List<PriceKey> keys = ranked.range(offset, limit);
+            List<Ranked> items = new ArrayList<>(keys.size());
+            int rank = 0;
+            for (int i = 0; i < keys.size(); i++) {
+                PriceKey k = keys.get(i);
+                if (i == 0) {
+                    // 구간 첫 원소만 같은 가격의 첫 위치를 트리에서 구한다 ("" 는 어떤 브랜드명보다 앞)
+                    rank = ranked.rank(new PriceKey(k.price(), "")) + 1;
+                } else if (k.price() != keys.get(i - 1).price()) {
+                    rank = offset + i + 1;
+                }
+                items.add(new Ranked(rank, k.brand(), k.price()));
+            }
+            return new Ranking(ranked.size(), items);
+        }
+
+        Distribution distribution() {
+            int n = ranked.size();
+            if (n == 0) {
+                return null;
+            }
+            return new Distribution(n, (double) sum / n,
+                    quantile(n, 500), quantile(n, 900), quantile(n, 990));
+        }
+
+        private int quantile(int n, int permille) {
+            return ranked.select(Distribution.nearestRank(n, permille)).price();
+        }
+
+        Extremes extremes() {
+            if (brandsByPrice.isEmpty()) {
+                return null;
+            }
+            var min = brandsByPrice.firstEntry();
+            var max = brandsByPrice.lastEntry();
+            return new Extremes(
+                    min.getKey(), List.copyOf(min.getValue()),
+                    max.getKey(), List.copyOf(max.getValue())
+            );
+        }
+    }
+}
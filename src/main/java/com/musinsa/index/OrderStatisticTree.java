@@ -0,0 +1,246 @@
+package com.musinsa.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 순서 통계 트리 (서브트리 크기를 보강한 AVL)
+ * - add / remove / contains / rank / select : O(log n)
+ * - range(offset, limit) : offset 위치까지 내려간 뒤 중위 순회 → O(log n + k)
+ * - 중복 키는 저장하지 않는다 (비교자가 0 을 돌려주면 같은 원소)
+ * - 스레드 안전하지 않음, 소유한 인덱스의 잠금 안에서만 사용
+ */
+public final class OrderStatisticTree<K> {
+
+    private final Comparator<? super K> comparator;
+    private Node<K> root;
+
+    private static final class Node<K> {
+        final K key;
+        Node<K> left;
+        Node<K> right;
+        int height = 1;
+        int size = 1;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    public OrderStatisticTree(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    /** 새로 추가됐으면 true */
+    public boolean add(K key) {
+        int before = size();
+        root = insert(root, key);
+        return size() != before;
+    }
+
+    /** 있던 원소를 지웠으면 true */
+    public boolean remove(K key) {
+        int before = size();
+        root = delete(root, key);
+        return size() != before;
+    }
+
+    public boolean contains(K key) {
+        Node<K> n = root;
+        while (n != null) {
+            int c = comparator.compare(key, n.key);
+            if (c == 0) {
+                return true;
+            }
+            n = c < 0 ? n.left : n.right;
+        }
+        return false;
+    }
+
+    /** key 보다 작은 원소 수 (key 가 있으면 0부터 센 그 위치) */
+    public int rank(K key) {
+        int rank = 0;
+        Node<K> n = root;
+        while (n != null) {
+            if (comparator.compare(key, n.key) <= 0) {
+                n = n.left;
+            } else {
+                rank += size(n.left) + 1;
+                n = n.right;
+            }
+        }
+        return rank;
+    }
+
+    /** 0부터 센 index 번째 원소 */
+    public K select(int index) {
+        if (index < 0 || index >= size()) {
+            throw new NoSuchElementException("index " + index + " / size " + size());
+        }
+        Node<K> n = root;
+        while (true) {
+            int left = size(n.left);
+            if (index < left) {
+                n = n.left;
+            } else if (index == left) {
+                return n.key;
+            } else {
+                index -= left + 1;
+                n = n.right;
+            }
+        }
+    }
+
+    /** offset 번째부터 최대 limit 개를 정렬 순으로 */
+    public List<K> range(int offset, int limit) {
+        List<K> out = new ArrayList<>(Math.max(0, Math.min(limit, size() - offset)));
+        if (offset < 0 || offset >= size() || limit <= 0) {
+            return out;
+        }
+
+        // offset 위치까지 내려가며, 왼쪽으로 꺾은 조상(= 이후에 방문할 노드)만 스택에 쌓는다
+        Deque<Node<K>> stack = new ArrayDeque<>();
+        Node<K> n = root;
+        int i = offset;
+        while (n != null) {
+            int left = size(n.left);
+            if (i < left) {
+                stack.push(n);
+                n = n.left;
+            } else if (i == left) {
+                stack.push(n);
+                break;
+            } else {
+                i -= left + 1;
+                n = n.right;
+            }
+        }
+
+        while (!stack.isEmpty() && out.size() < limit) {
+            Node<K> x = stack.pop();
+            out.add(x.key);
+            for (Node<K> y = x.right; y != null; y = y.left) {
+                stack.push(y);
+            }
+        }
+        return out;
+    }
+
+    /* ───────────── AVL ───────────── */
+
+    private Node<K> insert(Node<K> n, K key) {
+        if (n == null) {
+            return new Node<>(key);
+        }
+        int c = comparator.compare(key, n.key);
+        if (c < 0) {
+            n.left = insert(n.left, key);
+        } else if (c > 0) {
+            n.right = insert(n.right, key);
+        } else {
+            return n;
+        }
+        return balance(n);
+    }
+
+    private Node<K> delete(Node<K> n, K key) {
+        if (n == null) {
+            return null;
+        }
+        int c = comparator.compare(key, n.key);
+        if (c < 0) {
+            n.left = delete(n.left, key);
+        } else if (c > 0) {
+            n.right = delete(n.right, key);
+        } else {
+            if (n.left == null) {
+                return n.right;
+            }
+            if (n.right == null) {
+                return n.left;
+            }
+            Node<K> successor = n.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node<K> replacement = new Node<>(successor.key);
+            replacement.right = deleteMin(n.right);
+            replacement.left = n.left;
+            n = replacement;
+        }
+        return balance(n);
+    }
+
+    private Node<K> deleteMin(Node<K> n) {
+        if (n.left == null) {
+            return n.right;
+        }
+        n.left = deleteMin(n.left);
+        return balance(n);
+    }
+
+    private Node<K> balance(Node<K> n) {
+        update(n);
+        int bf = height(n.left) - height(n.right);
+        if (bf > 1) {
+            if (height(n.left.left) < height(n.left.right)) {
+                n.left = rotateLeft(n.left);
+            }
+            return rotateRight(n);
+        }
+        if (bf < -1) {
+            if (height(n.right.right) < height(n.right.left)) {
+                n.right = rotateRight(n.right);
+            }
+            return rotateLeft(n);
+        }
+        return n;
+    }
+
+    private Node<K> rotateRight(Node<K> n) {
+        Node<K> l = n.left;
+        n.left = l.right;
+        l.right = n;
+        update(n);
+        update(l);
+        return l;
+    }
+
+    private Node<K> rotateLeft(Node<K> n) {
+        Node<K> r = n.right;
+        n.right = r.left;
+        r.left = n;
+        update(n);
+        update(r);
+        return r;
+    }
+
+    private static <K> void update(Node<K> n) {
+        n.height = 1 + Math.max(height(n.left), height(n.right));
+        n.size = 1 + size(n.left) + size(n.right);
+    }
+
+    private static <K> int height(Node<K> n) {
+        return n == null ? 0 : n.height;
+    }
+
+    private static <K> int size(Node<K> n) {
+        return n == null ? 0 : n.size;
+    }
+}
@@ -0,0 +1,22 @@
+package com.musinsa.index;
+
+import com.musinsa.domain.Category;
+
+/**
+ * 브랜드·카테고리 단위 가격 변경 1건
+ * - price == null 이면 해당 상품이 삭제된 것
+ */
+public record PriceChange(String brand, Category category, Integer price) {
+
+    public static PriceChange put(String brand, Category category, int price) {
+        return new PriceChange(brand, category, price);
+    }
+
+    public static PriceChange remove(String brand, Category category) {
+        return new PriceChange(brand, category, null);
+    }
+
+    public boolean isRemoval() {
+        return price == null;
+    }
+}
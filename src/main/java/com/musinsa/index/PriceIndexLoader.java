@@ -0,0 +1,75 @@
+package com.musinsa.index;
+
+import com.musinsa.common.BrandListCache;
+import com.musinsa.common.JsonResponseCache;
+import com.musinsa.outbox.PriceOutboxRelay;
+import com.musinsa.repository.BrandRepository;
+import com.musinsa.repository.ProductRepository;
+import com.musinsa.service.BrandIdCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 DB 전체 상품으로 가격 인덱스를, 전체 브랜드명으로 자동완성 인덱스를 채운다.
+ * - 로딩 전까지 PriceService 는 DB 조회 경로를 사용
+ * - 재적재는 서비스를 거치지 않은 변경 이후이므로 브랜드 id 캐시도 비운다
+ * - 기동 적재는 웹 서버·@Scheduled relay 가 시작되기 전 lifecycle 단계에서 수행 → 동시 쓰기 없음
+ * - 실행 중 재적재는 relay 잠금 안에서 조회·교체 → 그 사이 커밋된 변경은 outbox 에 남아 이후 다시 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceIndexLoader implements SmartLifecycle {
+
+    /** 웹 서버 lifecycle(DEFAULT_PHASE - 2048)보다 먼저 시작 */
+    public static final int PHASE = 0;
+
+    private final ProductRepository productRepo;
+    private final BrandRepository brandRepo;
+    private final CategoryPriceIndex categoryIndex;
+    private final BrandBundleIndex bundleIndex;
+    private final BrandNameIndex nameIndex;
+    private final JsonResponseCache responseCache;
+    private final BrandListCache brandListCache;
+    private final BrandIdCache brandIds;
+    private final PriceOutboxRelay relay;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        reload();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    public void reload() {
+        relay.runExclusively(() -> {
+            List<PriceChange> rows = productRepo.findAllPriceRows();
+            categoryIndex.reset(rows);
+            bundleIndex.reset(rows);
+            nameIndex.reset(brandRepo.findAllNames());
+            brandListCache.invalidate();
+            responseCache.invalidate();
+            brandIds.clear();
+            log.info("Price index loaded: {} products", rows.size());
+        });
+    }
+}
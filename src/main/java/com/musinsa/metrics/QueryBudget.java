@@ -0,0 +1,23 @@
+package com.musinsa.metrics;
+
+import java.lang.annotation.*;
+
+/**
+ * 핸들러 한 번 처리에 허용되는 Hibernate SQL 실행 횟수 상한
+ * - strict 모드(musinsa.query-budget.strict=true, 테스트)에서는 초과 즉시 QueryBudgetExceededException
+ * - 그 외에는 경고 로그 + http.server.requests.sql.budget.exceeded 카운터
+ * - 입력 크기에 비례하는 대량 처리 핸들러는 UNBOUNDED + reason 으로 명시적으로 제외 (실행 횟수 측정은 유지)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /** 상한 없음, reason 필수 */
+    int UNBOUNDED = -1;
+
+    int value();
+
+    /** UNBOUNDED 인 이유 */
+    String reason() default "";
+}
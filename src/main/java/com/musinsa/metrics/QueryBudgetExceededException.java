@@ -0,0 +1,11 @@
+package com.musinsa.metrics;
+
+/**
+ * strict 모드에서 @QueryBudget 을 넘는 SQL 이 준비되는 순간 발생
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(int budget, String sql) {
+        super(String.format("SQL 실행 횟수가 예산 %d 회를 초과했습니다: %s", budget, sql));
+    }
+}
@@ -0,0 +1,63 @@
+package com.musinsa.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 핸들러의 @QueryBudget 을 SqlStatementCounter 에 걸고, 완료 시 초과 여부를 기록
+ */
+@Slf4j
+@Component
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean strict;
+
+    public QueryBudgetInterceptor(MeterRegistry meterRegistry,
+                                  @Value("${musinsa.query-budget.strict:false}") boolean strict) {
+        this.meterRegistry = meterRegistry;
+        this.strict = strict;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryBudget budget = budgetOf(handler);
+        if (budget != null && budget.value() != QueryBudget.UNBOUNDED) {
+            SqlStatementCounter.budget(budget.value(), strict);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        QueryBudget budget = budgetOf(handler);
+        if (budget == null || budget.value() == QueryBudget.UNBOUNDED) {
+            return;
+        }
+        int statements = SqlStatementCounter.current();
+        if (statements > budget.value()) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            log.warn("SQL budget exceeded: {} {} ran {} statements (budget {})",
+                    request.getMethod(), uri, statements, budget.value());
+            Counter.builder("http.server.requests.sql.budget.exceeded")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private static QueryBudget budgetOf(Object handler) {
+        return handler instanceof HandlerMethod hm ? hm.getMethodAnnotation(QueryBudget.class) : null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.musinsa.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청(스레드) 단위 Hibernate SQL 실행 횟수 집계
+ * - begin() ~ end() 사이에 준비된 문장 수를 센다. JdbcTemplate 경로(대량 적재·outbox 폴링)는 제외
+ * - budget() 이 strict 로 설정되면 예산을 넘는 문장을 실행 전에 거부
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final class Scope {
+        int count;
+        int budget = -1;
+        boolean strict;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.count++;
+            if (scope.strict && scope.budget >= 0 && scope.count > scope.budget) {
+                throw new QueryBudgetExceededException(scope.budget, sql);
+            }
+        }
+        return sql;
+    }
+
+    public static void begin() {
+        CURRENT.set(new Scope());
+    }
+
+    /** 현재 구간에 예산을 건다 (begin 전이면 무시) */
+    public static void budget(int budget, boolean strict) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.budget = budget;
+            scope.strict = strict;
+        }
+    }
+
+    /** 현재 구간의 실행 횟수 (begin 전이면 0) */
+    public static int current() {
+        Scope scope = CURRENT.get();
+        return scope == null ? 0 : scope.count;
+    }
+
+    public static int end() {
+        int n = current();
+        CURRENT.remove();
+        return n;
+    }
+}
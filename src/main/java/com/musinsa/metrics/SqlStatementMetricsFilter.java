@@ -0,0 +1,54 @@
+package com.musinsa.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청당 SQL 실행 횟수를 http.server.requests.sql{method, uri} 분포로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    /** (method, uri) → 분포, 조합마다 처음 한 번만 등록 */
+    private final Map<Key, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    private record Key(String method, String uri) {}
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        SqlStatementCounter.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = SqlStatementCounter.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            summary(request.getMethod(), pattern == null ? "UNKNOWN" : pattern.toString())
+                    .record(statements);
+        }
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        return summaries.computeIfAbsent(new Key(method, uri), k ->
+                DistributionSummary.builder("http.server.requests.sql")
+                        .baseUnit("statements")
+                        .tag("method", k.method())
+                        .tag("uri", k.uri())
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,102 @@
+package com.musinsa.outbox;
+
+import com.musinsa.domain.Category;
+import com.musinsa.index.PriceChange;
+import com.musinsa.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * outbox 를 배치 단위로 비워 인프로세스 리스너에 전달
+ * - 배치의 (브랜드, 카테고리) 키에 대해 현재 가격을 한 번에 다시 읽어 put/remove 로 변환
+ *   → 커밋 순서와 outbox id 순서가 달라도 항상 최신 값이 반영된다(멱등).
+ * - 전달 후 같은 트랜잭션에서 행을 삭제하므로 실패 시 다음 주기에 재전달된다.
+ * - 인덱스가 JVM 메모리에 있으므로 단일 인스턴스를 전제로 한다.
+ * - JDBC 대기 중 가상 스레드가 캐리어에 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceOutboxRelay {
+
+    static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final ProductRepository productRepo;
+    private final ApplicationEventPublisher events;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private record Row(long id, String brand, Category category) {}
+
+    /** 비어 있을 때까지 배치를 전달하고, 전달한 행 수를 반환 */
+    @Scheduled(fixedDelayString = "${musinsa.outbox.poll-interval-ms:100}")
+    public int drain() {
+        lock.lock();
+        try {
+            int relayed = 0;
+            int n;
+            do {
+                n = tx.execute(status -> relayBatch());
+                relayed += n;
+            } while (n == BATCH_SIZE);
+            if (relayed > 0) {
+                log.debug("Relayed {} outbox rows", relayed);
+            }
+            return relayed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** relay 배치와 겹치지 않게 실행 (전체 재적재가 그 사이 전달된 변경을 덮어쓰지 않도록) */
+    public void runExclusively(Runnable task) {
+        lock.lock();
+        try {
+            task.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int relayBatch() {
+        // show-sql 로그를 피하려고 폴링은 JdbcTemplate 로 수행
+        List<Row> rows = jdbc.query(
+                "select id, brand, category from price_outbox order by id limit ?",
+                (rs, i) -> new Row(rs.getLong(1), rs.getString(2), Category.valueOf(rs.getString(3))),
+                BATCH_SIZE);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> brands = new HashSet<>();
+        Set<PriceChange> keys = new LinkedHashSet<>();
+        for (Row r : rows) {
+            brands.add(r.brand());
+            keys.add(PriceChange.remove(r.brand(), r.category()));
+        }
+        Map<PriceChange, Integer> current = new HashMap<>();
+        for (PriceChange p : productRepo.findPriceRowsByBrandNameIn(brands)) {
+            current.put(PriceChange.remove(p.brand(), p.category()), p.price());
+        }
+
+        List<PriceChange> changes = new ArrayList<>(keys.size());
+        for (PriceChange key : keys) {
+            Integer price = current.get(key);
+            changes.add(price == null ? key : PriceChange.put(key.brand(), key.category(), price));
+        }
+        events.publishEvent(new RelayedPriceChanges(changes));
+
+        jdbc.batchUpdate("delete from price_outbox where id = ?", rows, rows.size(),
+                (ps, r) -> ps.setLong(1, r.id()));
+        return rows.size();
+    }
+}
@@ -0,0 +1,26 @@
+package com.musinsa.outbox;
+
+import com.musinsa.domain.PriceOutbox;
+import com.musinsa.index.CatalogChangedEvent;
+import com.musinsa.repository.PriceOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쓰기 서비스가 발행한 CatalogChangedEvent 를 같은 트랜잭션에서 outbox 에 기록
+ * - 동기 @EventListener 라서 비즈니스 변경과 함께 커밋·롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceOutboxWriter {
+
+    private final PriceOutboxRepository outboxRepo;
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        outboxRepo.saveAll(event.changes().stream()
+                .map(ch -> new PriceOutbox(ch.brand(), ch.category()))
+                .toList());
+    }
+}
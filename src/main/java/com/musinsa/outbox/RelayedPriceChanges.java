@@ -0,0 +1,16 @@
+package com.musinsa.outbox;
+
+import com.musinsa.index.PriceChange;
+
+import java.util.List;
+
+/**
+ * outbox 릴레이가 커밋된 변경을 현재 DB 값으로 다시 읽어 전달하는 이벤트
+ * - 인덱스·응답 캐시·SSE 가 이 이벤트로 갱신된다.
+ */
+public record RelayedPriceChanges(List<PriceChange> changes) {
+
+    public RelayedPriceChanges {
+        changes = List.copyOf(changes);
+    }
+}
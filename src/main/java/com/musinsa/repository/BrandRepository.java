@@ -3,10 +3,29 @@ package com.musinsa.repository;
 
 import com.musinsa.domain.Brand;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BrandRepository extends JpaRepository<Brand, Long> {
     Optional<Brand> findByName(String name);
     boolean existsByName(String name);
+    List<Brand> findByNameIn(Collection<String> names);
+
+    /* 이름만 스칼라로 조회 (엔티티·컬렉션 프록시 생성 없음) */
+    @Query("SELECT b.name FROM Brand b ORDER BY b.name")
+    List<String> findAllNames();
+
+    /* 등록(id) 순 이름 목록 – GET /brands 의 기존 응답 순서 */
+    @Query("SELECT b.name FROM Brand b ORDER BY b.id")
+    List<String> findAllNamesInIdOrder();
+
+    /* 상품 일괄 삭제 후 호출, 영속성 컨텍스트의 브랜드는 비운다 */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Brand b WHERE b.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
 }
@@ -0,0 +1,6 @@
+package com.musinsa.repository;
+
+/**
+ * 브랜드별 상품 가격 합계 프로젝션
+ */
+public record BrandTotal(Long brandId, String brand, Long total) {}
@@ -0,0 +1,6 @@
+package com.musinsa.repository;
+
+/**
+ * 카테고리 가격 집계 프로젝션 (상품이 없으면 count 0, 나머지 null)
+ */
+public record CategoryPriceSummary(Long count, Long sum, Integer min, Integer max) {}
@@ -0,0 +1,7 @@
+package com.musinsa.repository;
+
+import com.musinsa.domain.PriceOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PriceOutboxRepository extends JpaRepository<PriceOutbox, Long> {
+}
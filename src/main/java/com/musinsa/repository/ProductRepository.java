@@ -4,10 +4,16 @@ package com.musinsa.repository;
 import com.musinsa.domain.Brand;
 import com.musinsa.domain.Category;
 import com.musinsa.domain.Product;
+import com.musinsa.dto.ProductResponse;
+import com.musinsa.index.PriceChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,27 +24,138 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     boolean existsByBrandAndCategory(Brand brand, Category category);
     Optional<Product> findByBrandAndCategory(Brand brand, Category category);
 
+    /** 브랜드가 없으면 empty, 있으면 해당 카테고리 상품 존재 여부 (캐시 적중 id 확인과 중복 검사를 쿼리 1회로) */
+    @Query("""
+        SELECT CASE WHEN EXISTS (SELECT p.id FROM Product p WHERE p.brand.id = b.id AND p.category = :category)
+                    THEN true ELSE false END
+        FROM Brand b WHERE b.id = :brandId
+    """)
+    Optional<Boolean> findCategoryTakenByBrandId(@Param("brandId") Long brandId,
+                                                 @Param("category") Category category);
+
     /* JPQL for price statistics */
     @Query("""
-        SELECT p FROM Product p
+        SELECT p FROM Product p JOIN FETCH p.brand
         WHERE p.category = :category
           AND p.price = (SELECT MIN(p2.price) FROM Product p2 WHERE p2.category = :category)
     """)
     List<Product> findMinPriceByCategory(@Param("category") Category category);
 
     @Query("""
-        SELECT p FROM Product p
+        SELECT p FROM Product p JOIN FETCH p.brand
         WHERE p.category = :category
           AND p.price = (SELECT MAX(p2.price) FROM Product p2 WHERE p2.category = :category)
     """)
     List<Product> findMaxPriceByCategory(@Param("category") Category category);
 
+    /* 전 카테고리 최저가 (카테고리, 브랜드명, 가격)을 한 번의 쿼리로 조회, 동률은 브랜드명 순 */
     @Query("""
-        SELECT p FROM Product p
+        SELECT new com.musinsa.index.PriceChange(b.name, p.category, p.price)
+        FROM Product p JOIN p.brand b
         WHERE p.price = (
             SELECT MIN(p2.price) FROM Product p2 WHERE p2.category = p.category
         )
+        ORDER BY b.name
+    """)
+    List<PriceChange> findCheapestRowsAllCategories();
+
+    /* 가격 인덱스 적재용: 엔티티 대신 (브랜드명, 카테고리, 가격)만 조회 */
+    @Query("""
+        SELECT new com.musinsa.index.PriceChange(b.name, p.category, p.price)
+        FROM Product p JOIN p.brand b
+    """)
+    List<PriceChange> findAllPriceRows();
+
+    /* 모든 카테고리를 가진 브랜드만 총액 오름차순(동률은 브랜드명)으로 집계 */
+    @Query("""
+        SELECT new com.musinsa.repository.BrandTotal(b.id, b.name, SUM(p.price))
+        FROM Product p JOIN p.brand b
+        GROUP BY b.id, b.name
+        HAVING COUNT(DISTINCT p.category) = :categoryCount
+        ORDER BY SUM(p.price), b.name
+    """)
+    List<BrandTotal> findCompleteBrandTotals(@Param("categoryCount") long categoryCount, Limit limit);
+
+    /* 모든 카테고리를 가진 브랜드 중 총액이 maxTotal 미만인 브랜드 수 (순위 계산용) */
+    @Query("""
+        SELECT COUNT(b) FROM Brand b
+        WHERE (SELECT COUNT(DISTINCT p.category) FROM Product p WHERE p.brand = b) = :categoryCount
+          AND (SELECT SUM(p.price) FROM Product p WHERE p.brand = b) < :maxTotal
+    """)
+    long countCompleteBrandsBelow(@Param("categoryCount") long categoryCount,
+                                  @Param("maxTotal") long maxTotal);
+
+    @Query("""
+        SELECT new com.musinsa.index.PriceChange(b.name, p.category, p.price)
+        FROM Product p JOIN p.brand b
+        WHERE b.id = :brandId
+    """)
+    List<PriceChange> findPriceRowsByBrandId(@Param("brandId") Long brandId);
+
+    @Query("""
+        SELECT new com.musinsa.index.PriceChange(b.name, p.category, p.price)
+        FROM Product p JOIN p.brand b
+        WHERE b.name IN :names
+    """)
+    List<PriceChange> findPriceRowsByBrandNameIn(@Param("names") Collection<String> names);
+
+    /* 인덱스 로딩 전 카테고리 순위: 가격, 브랜드명 순 앞에서 limit 개 */
+    @Query("""
+        SELECT new com.musinsa.index.PriceChange(b.name, p.category, p.price)
+        FROM Product p JOIN p.brand b
+        WHERE p.category = :category
+        ORDER BY p.price, b.name
+    """)
+    List<PriceChange> findRankedByCategory(@Param("category") Category category, Limit limit);
+
+    /* 인덱스 로딩 전 가격 분포: 개수·합계·양 끝 가격을 한 번에 집계 */
+    @Query("""
+        SELECT new com.musinsa.repository.CategoryPriceSummary(COUNT(p), SUM(p.price), MIN(p.price), MAX(p.price))
+        FROM Product p
+        WHERE p.category = :category
     """)
-    List<Product> findCheapestProductsAllCategories();
+    CategoryPriceSummary summarizeByCategory(@Param("category") Category category);
+
+    /* 가격 오름차순 pageable 구간의 가격만 (분위수: PageRequest.of(rank, 1) → OFFSET rank LIMIT 1) */
+    @Query("SELECT p.price FROM Product p WHERE p.category = :category ORDER BY p.price")
+    List<Integer> findPricesByCategory(@Param("category") Category category, Pageable pageable);
+
+    /* 양 끝 가격의 동률 브랜드 전부 (최저·최고가를 이미 알 때 1회 조회) */
+    @Query("""
+        SELECT new com.musinsa.index.PriceChange(b.name, p.category, p.price)
+        FROM Product p JOIN p.brand b
+        WHERE p.category = :category AND (p.price = :min OR p.price = :max)
+        ORDER BY p.price, b.name
+    """)
+    List<PriceChange> findAtPricesByCategory(@Param("category") Category category,
+                                             @Param("min") int min, @Param("max") int max);
+
+    long countByCategory(Category category);
+
+    /* 상품 목록 키셋 페이지: id 이후 행을 DTO 로 바로 조회 (엔티티·지연 프록시 없음), 필터는 null 이면 무시 */
+    @Query("""
+        SELECT new com.musinsa.dto.ProductResponse(p.id, b.name, p.category, p.price)
+        FROM Product p JOIN p.brand b
+        WHERE p.id > :afterId
+          AND (:category IS NULL OR p.category = :category)
+          AND (:brand IS NULL OR b.name = :brand)
+        ORDER BY p.id
+    """)
+    List<ProductResponse> findPageAfter(@Param("afterId") long afterId,
+                                        @Param("category") Category category,
+                                        @Param("brand") String brand,
+                                        Limit limit);
+
+    /* 가격 일괄 수정용: 브랜드명까지 한 번에 로딩 (N+1 방지) */
+    @Query("""
+        SELECT p FROM Product p JOIN FETCH p.brand
+        WHERE p.id IN :ids
+    """)
+    List<Product> findAllWithBrandByIdIn(@Param("ids") Collection<Long> ids);
+
+    /* 브랜드 삭제용: 상품을 엔티티로 읽지 않고 DELETE 1회 */
+    @Modifying
+    @Query("DELETE FROM Product p WHERE p.brand.id = :brandId")
+    int bulkDeleteByBrandId(@Param("brandId") Long brandId);
 
 }
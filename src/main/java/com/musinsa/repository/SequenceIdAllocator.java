@@ -0,0 +1,47 @@
+package com.musinsa.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * JDBC 배치 INSERT 용 id 블록 할당기
+ * - 엔티티와 같은 pooled-lo 규칙: 시퀀스 값 v 하나가 [v, v + ALLOCATION_SIZE) 구간을 소유
+ * - 따라서 Hibernate 가 할당한 id 와 겹치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SequenceIdAllocator {
+
+    /** Brand/Product @SequenceGenerator allocationSize 와 동일해야 함 */
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String BRAND_SEQ = "brand_seq";
+    public static final String PRODUCT_SEQ = "product_seq";
+
+    private final JdbcTemplate jdbc;
+
+    public long[] nextIds(String sequence, int count) {
+        LongSupplier ids = supplier(sequence);
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = ids.getAsLong();
+        }
+        return result;
+    }
+
+    /** 단일 스레드용: 블록을 다 쓰면 시퀀스에서 다음 블록을 받는다. */
+    public LongSupplier supplier(String sequence) {
+        long[] block = {0, 0};   // {다음 id, 블록 끝(제외)}
+        return () -> {
+            if (block[0] == block[1]) {
+                Long lo = jdbc.queryForObject("select next value for " + sequence, Long.class);
+                block[0] = lo;
+                block[1] = lo + ALLOCATION_SIZE;
+            }
+            return block[0]++;
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.musinsa.seed;
+
+import com.musinsa.domain.Category;
+import com.musinsa.index.PriceChange;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 브랜드 N 개짜리 합성 카탈로그 생성기
+ * - 가격: 카테고리 중앙가 기준 로그정규 분포, 100원 단위
+ * - 인기도: rank^-s (Zipf) – 인기 브랜드일수록 취급 카테고리가 많음
+ * - 같은 설정이면 항상 같은 카탈로그 (시드 고정)
+ */
+@RequiredArgsConstructor
+public class CatalogGenerator {
+
+    /** data.sql 분포를 참고한 카테고리별 중앙가 */
+    private static final Map<Category, Integer> MEDIAN_PRICE = Map.of(
+            Category.TOP,       10_500,
+            Category.OUTER,      6_000,
+            Category.BOTTOM,     3_500,
+            Category.SNEAKERS,   9_300,
+            Category.BAG,        2_200,
+            Category.HAT,        1_700,
+            Category.SOCKS,      2_000,
+            Category.ACCESSORY,  2_100
+    );
+
+    public static final int NOT_CARRIED = -1;
+
+    /** prices 는 Category.ordinal() 순서, 미취급은 NOT_CARRIED */
+    @FunctionalInterface
+    public interface BrandSink {
+        void accept(int rank, String name, int[] prices);
+    }
+
+    private final SeedProperties props;
+
+    public void generate(BrandSink sink) {
+        Random rnd = new Random(props.randomSeed());
+        Category[] categories = Category.values();
+
+        for (int rank = 1; rank <= props.brands(); rank++) {
+            double popularity = Math.pow(rank, -props.zipfExponent());
+            double pCarry = props.coverage() + (1 - props.coverage()) * popularity;
+
+            int[] prices = new int[categories.length];
+            int carried = 0;
+            for (Category c : categories) {
+                if (rnd.nextDouble() < pCarry) {
+                    prices[c.ordinal()] = price(c, rnd);
+                    carried++;
+                } else {
+                    prices[c.ordinal()] = NOT_CARRIED;
+                }
+            }
+            if (carried == 0) {
+                Category c = categories[rnd.nextInt(categories.length)];
+                prices[c.ordinal()] = price(c, rnd);
+            }
+            sink.accept(rank, brandName(rank), prices);
+        }
+    }
+
+    /** 인덱스·벤치마크용: 생성 결과를 (브랜드, 카테고리, 가격) 목록으로 */
+    public List<PriceChange> toRows() {
+        List<PriceChange> rows = new ArrayList<>();
+        generate((rank, name, prices) -> {
+            for (Category c : Category.values()) {
+                if (prices[c.ordinal()] != NOT_CARRIED) {
+                    rows.add(PriceChange.put(name, c, prices[c.ordinal()]));
+                }
+            }
+        });
+        return rows;
+    }
+
+    public static String brandName(int rank) {
+        return "BRAND-" + rank;
+    }
+
+    private int price(Category c, Random rnd) {
+        double p = MEDIAN_PRICE.get(c) * Math.exp(props.priceSpread() * rnd.nextGaussian());
+        return Math.max(100, (int) Math.round(p / 100.0) * 100);
+    }
+}
@@ -0,0 +1,103 @@
+package com.musinsa.seed;
+
+import com.musinsa.domain.Category;
+import com.musinsa.index.PriceIndexLoader;
+import com.musinsa.repository.SequenceIdAllocator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * musinsa.seed.brands > 0 이면 기동 시 합성 카탈로그를 JDBC 배치로 적재한다.
+ * - 가격 인덱스 로딩(PriceIndexLoader lifecycle)보다 한 단계 먼저 실행됨
+ * - seed 프로파일에서는 data.sql 을 건너뛴다 (application-seed.properties)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SeedProperties.class)
+@ConditionalOnExpression("${musinsa.seed.brands:0} > 0")
+public class SeedLoader implements SmartLifecycle {
+
+    private static final String INSERT_BRAND =
+            "insert into brand(id, name) values (?, ?)";
+    private static final String INSERT_PRODUCT =
+            "insert into product(id, brand_id, category, price) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbc;
+    private final SequenceIdAllocator idAllocator;
+    private final SeedProperties props;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        load(new CatalogGenerator(props));
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PriceIndexLoader.PHASE - 1;
+    }
+
+    public void load(CatalogGenerator generator) {
+        long started = System.nanoTime();
+        LongSupplier brandIds = idAllocator.supplier(SequenceIdAllocator.BRAND_SEQ);
+        LongSupplier productIds = idAllocator.supplier(SequenceIdAllocator.PRODUCT_SEQ);
+        int batchSize = props.batchSize();
+
+        List<Object[]> brands = new ArrayList<>(batchSize);
+        List<Object[]> products = new ArrayList<>(batchSize);
+        long[] productCount = {0};
+
+        generator.generate((rank, name, prices) -> {
+            long brandId = brandIds.getAsLong();
+            brands.add(new Object[]{brandId, name});
+            for (Category c : Category.values()) {
+                int price = prices[c.ordinal()];
+                if (price != CatalogGenerator.NOT_CARRIED) {
+                    products.add(new Object[]{productIds.getAsLong(), brandId, c.name(), price});
+                }
+            }
+            if (products.size() >= batchSize) {
+                productCount[0] += flush(brands, products);
+            }
+        });
+        productCount[0] += flush(brands, products);
+
+        log.info("Seeded {} brands / {} products in {} ms",
+                props.brands(), productCount[0], (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /** FK 순서를 지키기 위해 브랜드 배치를 먼저 내보낸다. */
+    private int flush(List<Object[]> brands, List<Object[]> products) {
+        if (!brands.isEmpty()) {
+            jdbc.batchUpdate(INSERT_BRAND, brands);
+            brands.clear();
+        }
+        int n = products.size();
+        if (n > 0) {
+            jdbc.batchUpdate(INSERT_PRODUCT, products);
+            products.clear();
+        }
+        return n;
+    }
+}
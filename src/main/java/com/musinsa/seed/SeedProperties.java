@@ -0,0 +1,28 @@
+package com.musinsa.seed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 합성 카탈로그 설정 (musinsa.seed.*)
+ *
+ * @param brands       생성할 브랜드 수 (0 이면 data.sql 사용)
+ * @param coverage     비인기 브랜드가 카테고리 하나를 취급할 확률
+ * @param zipfExponent 인기도 Zipf 지수 – 상위 브랜드일수록 전 카테고리 취급에 가까움
+ * @param priceSpread  카테고리 중앙가 대비 로그정규 표준편차
+ * @param randomSeed   재현용 난수 시드
+ * @param batchSize    JDBC 배치 크기
+ */
+@ConfigurationProperties(prefix = "musinsa.seed")
+public record SeedProperties(
+        @DefaultValue("0") int brands,
+        @DefaultValue("0.6") double coverage,
+        @DefaultValue("1.1") double zipfExponent,
+        @DefaultValue("0.35") double priceSpread,
+        @DefaultValue("42") long randomSeed,
+        @DefaultValue("5000") int batchSize
+) {
+    public static SeedProperties ofBrands(int brands) {
+        return new SeedProperties(brands, 0.6, 1.1, 0.35, 42, 5000);
+    }
+}
@@ -0,0 +1,177 @@
+package com.musinsa.service;
+
+import com.musinsa.domain.Brand;
+import com.musinsa.repository.BrandRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 브랜드명 → id 캐시 (LRU, 최대 maxSize 개)
+ * - 적중 시 유니크 인덱스 조회 없이 getReferenceById 프록시를 돌려준다
+ * - 엔트리는 적재 시점의 세대(version)를 함께 저장, 무효화가 끼어든 적재 결과는 버린다
+ * - 생성은 커밋 후 등록, 삭제는 즉시 + 커밋/롤백 후 한 번 더 제거
+ * - brand.id.cache{result=hit|miss}, brand.id.cache.evictions, brand.id.cache.size 노출
+ */
+@Component
+public class BrandIdCache {
+
+    private final BrandRepository brandRepo;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private long generation;
+
+    record Entry(long id, long version) {}
+
+    public BrandIdCache(BrandRepository brandRepo,
+                        MeterRegistry meterRegistry,
+                        @Value("${musinsa.brand-cache.max-size:10000}") int maxSize) {
+        this.brandRepo = brandRepo;
+        this.hits = Counter.builder("brand.id.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("brand.id.cache").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("brand.id.cache.evictions").register(meterRegistry);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("brand.id.cache.size", this, BrandIdCache::size).register(meterRegistry);
+    }
+
+    /**
+     * 브랜드를 찾습니다.
+     * - 적중: 쿼리 없이 지연 프록시 (필드 접근 시 PK 조회)
+     * - 미스: findByName 결과를 돌려주고 id 를 캐시에 적재
+     */
+    public Optional<Brand> find(String name) {
+        long version;
+        lock.lock();
+        try {
+            Entry e = entries.get(name);
+            if (e != null) {
+                hits.increment();
+                return Optional.of(brandRepo.getReferenceById(e.id()));
+            }
+            version = generation;
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        Optional<Brand> found = brandRepo.findByName(name);
+        found.map(Brand::getId).ifPresent(id -> putIfCurrent(name, id, version));
+        return found;
+    }
+
+    /** 캐시에 있으면 존재하는 브랜드, 없으면 existsByName 으로 확인 */
+    public boolean exists(String name) {
+        lock.lock();
+        try {
+            if (entries.containsKey(name)) {
+                hits.increment();
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        return brandRepo.existsByName(name);
+    }
+
+    /** 새 브랜드 등록: 트랜잭션이 커밋된 뒤에만 캐시에 넣는다. */
+    public void registerAfterCommit(String name, Long id) {
+        long version = currentGeneration();
+        afterTransaction(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putIfCurrent(name, id, version);
+            }
+        }, () -> putIfCurrent(name, id, version));
+    }
+
+    /** 브랜드 삭제: 지금 제거하고, 삭제 커밋 전 다른 요청이 다시 적재했을 수 있으므로 종료 후 한 번 더 제거 */
+    public void evict(String name) {
+        remove(name);
+        afterTransaction(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                remove(name);
+            }
+        }, () -> {});
+    }
+
+    /** 리포지토리를 거치지 않은 변경(재적재 등) 이후 전체 비우기 */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void putIfCurrent(String name, long id, long version) {
+        lock.lock();
+        try {
+            if (version == generation) {
+                entries.put(name, new Entry(id, version));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String name) {
+        lock.lock();
+        try {
+            entries.remove(name);
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long currentGeneration() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void afterTransaction(TransactionSynchronization sync, Runnable noTransaction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(sync);
+        } else {
+            noTransaction.run();
+        }
+    }
+}
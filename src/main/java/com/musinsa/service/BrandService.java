@@ -6,31 +6,48 @@ import com.musinsa.domain.Brand;
 import com.musinsa.domain.Category;
 import com.musinsa.domain.Product;
 import com.musinsa.dto.BrandRequest;
+import com.musinsa.index.BrandNameIndex;
+import com.musinsa.index.BrandSetChangedEvent;
+import com.musinsa.index.CatalogChangedEvent;
+import com.musinsa.index.PriceChange;
 import com.musinsa.repository.BrandRepository;
 import com.musinsa.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class BrandService {
+    /** 자동완성 결과 개수 상한 */
+    static final int MAX_SUGGEST = 100;
+
     private final BrandRepository brandRepo;
     private final ProductRepository productRepo;
+    private final BrandIdCache brandIds;
+    private final BrandNameIndex nameIndex;
+    private final ApplicationEventPublisher events;
 
-
+    @Timed("catalog.write")
     @Transactional
     public void createBrand(String name, Map<String, Integer> priceMap) {
-        if (brandRepo.existsByName(name)) {
+        if (brandIds.exists(name)) {
             throw new ApiException(ErrorCode.BRAND_ALREADY_EXISTS);
         }
         Brand brand = new Brand(name);
+        List<PriceChange> changes = new ArrayList<>();
         for (var e : priceMap.entrySet()) {
             Category c;
             try {
@@ -41,89 +58,153 @@ public class BrandService {
                         "유효하지 않은 카테고리명입니다: " + e.getKey()
                 );
             }
+            requireValidPrice(e);
             brand.getProducts().add(new Product(brand, c, e.getValue()));
+            changes.add(PriceChange.put(name, c, e.getValue()));
         }
         brandRepo.save(brand);
+        brandIds.registerAfterCommit(name, brand.getId());
+        events.publishEvent(new CatalogChangedEvent(changes));
+        events.publishEvent(BrandSetChangedEvent.created(name));
     }
 
+    /**
+     * 브랜드의 카테고리별 가격을 요청 맵으로 맞춥니다.
+     * - 상품을 한 번만 읽어 요청과 비교한 diff 를 적용
+     *   (신규는 배치 INSERT, 가격이 바뀐 상품만 배치 UPDATE, 빠진 카테고리는 DELETE 1회)
+     * - 인덱스 갱신 이벤트는 실제로 바뀐 카테고리만 담는다
+     */
+    @Timed("catalog.write")
     @Transactional
     public void updateBrand(String name, Map<String, Integer> priceMap) {
 
-        Brand brand = brandRepo.findByName(name)
+        Brand brand = brandIds.find(name)
                 .orElseThrow(() -> new ApiException(ErrorCode.BRAND_NOT_FOUND));
 
-        /* 1) update-or-insert 요청 카테고리 */
+        /* 1) 요청 카테고리 파싱 */
+        Map<Category, Integer> requested = new EnumMap<>(Category.class);
         for (Map.Entry<String, Integer> e : priceMap.entrySet()) {
-
-            String krName   = e.getKey();
-            int    newPrice = e.getValue();
-
-            /* ✨ 카테고리 파싱 → 예외 래핑 */
-            Category cat;
             try {
-                cat = Category.fromKr(krName);
+                requested.put(Category.fromKr(e.getKey()), e.getValue());
             } catch (IllegalArgumentException ex) {
                 throw new ApiException(
                         ErrorCode.VALIDATION_ERROR,
-                        "유효하지 않은 카테고리명입니다: " + krName
+                        "유효하지 않은 카테고리명입니다: " + e.getKey()
                 );
             }
+            requireValidPrice(e);
+        }
 
-            /* update or insert 로직 그대로 … */
-            Optional<Product> found =
-                    productRepo != null
-                            ? productRepo.findByBrandAndCategory(brand, cat)
-                            : brand.getProducts().stream()
-                            .filter(p -> p.getCategory() == cat)
-                            .findFirst();
-
-            if (found.isPresent()) {
-                found.get().setPrice(newPrice);
-            } else {
-                brand.getProducts().add(new Product(brand, cat, newPrice));
+        /* 2) 현재 상품과 비교 → update / delete */
+        List<PriceChange> changes = new ArrayList<>();
+        List<Product> removed = new ArrayList<>();
+        Set<Category> present = EnumSet.noneOf(Category.class);
+        List<Product> current = productRepo.findByBrandId(brand.getId());
+        if (current.isEmpty() && !brandRepo.existsById(brand.getId())) {
+            // 캐시 적중 id 의 브랜드가 다른 경로로 삭제됨 (삭제는 상품부터 지우므로 상품이 없을 때만 확인)
+            brandIds.evict(name);
+            throw new ApiException(ErrorCode.BRAND_NOT_FOUND);
+        }
+        for (Product p : current) {
+            Integer newPrice = requested.get(p.getCategory());
+            present.add(p.getCategory());
+            if (newPrice == null) {
+                removed.add(p);
+                changes.add(PriceChange.remove(name, p.getCategory()));
+            } else if (p.getPrice() != newPrice) {
+                p.setPrice(newPrice);   // dirty checking → 배치 UPDATE
+                changes.add(PriceChange.put(name, p.getCategory(), newPrice));
             }
         }
 
-        /* 2) ✂️  priceMap 에 포함되지 않은 카테고리 상품 삭제  */
-        Set<String> reqCats = priceMap.keySet();
-        brand.getProducts().removeIf(p ->
-                !reqCats.contains(p.getCategory().getKrName())
-        );
+        /* 3) 없던 카테고리 → insert */
+        List<Product> added = new ArrayList<>();
+        requested.forEach((cat, price) -> {
+            if (!present.contains(cat)) {
+                added.add(new Product(brand, cat, price));
+                changes.add(PriceChange.put(name, cat, price));
+            }
+        });
 
-        /* 3) 변경 저장 */
-        brandRepo.save(brand);
+        /* 4) diff 적용 */
+        if (!removed.isEmpty()) {
+            productRepo.deleteAllInBatch(removed);
+        }
+        if (!added.isEmpty()) {
+            productRepo.saveAll(added);
+        }
+        if (!changes.isEmpty()) {
+            events.publishEvent(new CatalogChangedEvent(changes));
+        }
     }
 
 
+    /**
+     * 브랜드와 소속 상품을 삭제합니다.
+     * - 상품·브랜드를 엔티티로 읽지 않고 bulk DELETE 2회 (상품 수와 무관)
+     * - 삭제된 카테고리를 알 필요 없이 전 카테고리 제거를 발행, 릴레이가 현재 가격을 다시 읽으므로 없는 항목은 무시됨
+     */
+    @Timed("catalog.write")
     @Transactional
     public void deleteBrand(String name) {
-        Brand brand = brandRepo.findByName(name)
+        Brand brand = brandIds.find(name)
                 .orElseThrow(() -> new ApiException(ErrorCode.BRAND_NOT_FOUND));
-        brandRepo.delete(brand);
+        Long id = brand.getId();
+
+        productRepo.bulkDeleteByBrandId(id);
+        int deleted = brandRepo.bulkDeleteById(id);
+        brandIds.evict(name);
+        if (deleted == 0) {
+            // 캐시 적중 후 다른 경로로 이미 삭제된 경우
+            throw new ApiException(ErrorCode.BRAND_NOT_FOUND);
+        }
+
+        events.publishEvent(new CatalogChangedEvent(Arrays.stream(Category.values())
+                .map(c -> PriceChange.remove(name, c))
+                .toList()));
+        events.publishEvent(BrandSetChangedEvent.deleted(name));
+    }
+
+    private static void requireValidPrice(Map.Entry<String, Integer> e) {
+        if (!Product.isValidPrice(e.getValue())) {
+            throw new ApiException(
+                    ErrorCode.VALIDATION_ERROR,
+                    String.format("카테고리 '%s'의 가격은 0보다 커야 합니다.", e.getKey())
+            );
+        }
     }
 
     @Transactional(readOnly = true)
     public BrandRequest getBrand(String name) {
-        var b = brandRepo.findByName(name)
+        var b = brandIds.find(name)
                 .orElseThrow(() -> new ApiException(ErrorCode.BRAND_NOT_FOUND));
         // @Builder 를 이용해 BrandRequest 생성
-        return BrandRequest.builder()
-            .brand(b.getName())
-            .prices(
-                 b.getProducts().stream()
-                     .collect(Collectors.toMap(
-                     p -> p.getCategory().getKrName(),
-                     Product::getPrice
-                 ))
-            )
-            .build();
+        try {
+            return BrandRequest.builder()
+                .brand(b.getName())
+                .prices(
+                     b.getProducts().stream()
+                         .collect(Collectors.toMap(
+                         p -> p.getCategory().getKrName(),
+                         Product::getPrice
+                     ))
+                )
+                .build();
+        } catch (EntityNotFoundException e) {
+            // 캐시 적중 프록시의 브랜드가 이미 삭제됨 → 엔트리를 버리고 404
+            brandIds.evict(name);
+            throw new ApiException(ErrorCode.BRAND_NOT_FOUND);
+        }
     }
 
+    /** 이름만 스칼라 조회 (Brand 엔티티·products 컬렉션 프록시를 만들지 않음), 기존 응답과 같은 등록순 */
     @Transactional(readOnly = true)
     public List<String> getAllBrandNames() {
-        return brandRepo.findAll()
-                .stream()
-                .map(Brand::getName)
-                .collect(Collectors.toList());
+        return brandRepo.findAllNamesInIdOrder();
+    }
+
+    /** 자동완성: 인덱스에서 prefix 로 시작하는 브랜드명 최대 limit 개 (DB 접근 없음) */
+    public List<String> suggestBrandNames(String prefix, int limit) {
+        return nameIndex.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGEST)));
     }
 }
@@ -0,0 +1,182 @@
+package com.musinsa.service;
+
+import com.musinsa.domain.Category;
+import com.musinsa.dto.PriceEvent;
+import com.musinsa.index.BrandBundleIndex;
+import com.musinsa.index.CategoryPriceIndex;
+import com.musinsa.outbox.RelayedPriceChanges;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 가격 변경 SSE 브로드캐스터
+ * - relay 트랜잭션 커밋 후 마지막으로 보낸 상태와 비교해 바뀐 항목만 전송
+ * - 구독 직후 현재 상태 전체를 한 번 보내므로 클라이언트는 초기 조회 없이 시작할 수 있음
+ * - 잠금 안에서는 메모리 diff 만 계산하고, 전송(I/O)은 단일 sender 스레드에 넘긴다
+ *   → 느린 구독자가 outbox relay(잠금·DB 커넥션)를 붙잡지 않고, 전송 순서는 diff 순서와 같다
+ * - sender 는 vthreads 프로파일(spring.threads.virtual.enabled, Java 21+)이면 가상 스레드로 실행
+ */
+@Slf4j
+@Service
+public class PriceEventService {
+
+    /** 만료 시 브라우저 EventSource 가 자동 재연결 */
+    private static final long TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final CategoryPriceIndex categoryIndex;
+    private final BrandBundleIndex bundleIndex;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final Map<Category, PriceEvent.CategoryExtremes> lastSent = new EnumMap<>(Category.class);
+    private PriceEvent.CheapestBrand lastCheapest;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ThreadPoolTaskExecutor sender;
+
+    public PriceEventService(CategoryPriceIndex categoryIndex, BrandBundleIndex bundleIndex,
+                             Environment environment) {
+        this.categoryIndex = categoryIndex;
+        this.bundleIndex = bundleIndex;
+        this.sender = newSender(Threading.VIRTUAL.isActive(environment));
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(TIMEOUT_MS));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitters.remove(emitter));
+
+        lock.lock();
+        try {
+            diffLocked();   // 기준 상태를 최신으로 맞춘 뒤(변경분은 기존 구독자에게도 전송) 전체 상태 전송
+            List<Object> current = new ArrayList<>(lastSent.values());
+            if (lastCheapest != null) {
+                current.add(lastCheapest);
+            }
+            sender.execute(() -> {
+                try {
+                    for (Object event : current) {
+                        emitter.send(toSse(event));
+                    }
+                    emitters.add(emitter);
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+        return emitter;
+    }
+
+    /** 인덱스는 relay 트랜잭션 안에서 갱신되므로, 커밋 후 한 번만 비교·전송 (전송 실패가 outbox 를 롤백하지 않음) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(RelayedPriceChanges event) {
+        diff();
+    }
+
+    /** 마지막 전송 상태 대비 변경분을 계산·갱신하고 구독자 전송을 예약한 뒤 반환 */
+    List<Object> diff() {
+        lock.lock();
+        try {
+            return diffLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdown();
+    }
+
+    /** 스레드 1개·FIFO 큐라 전송 순서가 예약 순서와 같다 */
+    private static ThreadPoolTaskExecutor newSender(boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("price-event-sender-");
+        if (virtualThreads) {
+            executor.setThreadFactory(
+                    new VirtualThreadTaskExecutor("price-event-sender-").getVirtualThreadFactory());
+        }
+        executor.initialize();
+        return executor;
+    }
+
+    private List<Object> diffLocked() {
+        List<Object> deltas = new ArrayList<>();
+        if (!categoryIndex.isLoaded()) {
+            return deltas;
+        }
+        for (Category c : Category.values()) {
+            PriceEvent.CategoryExtremes now = toEvent(c, categoryIndex.extremes(c));
+            PriceEvent.CategoryExtremes before = lastSent.put(c, now);
+            if (!now.equals(before) && (before != null || now.getMinPrice() != null)) {
+                deltas.add(now);
+            }
+        }
+        BrandBundleIndex.Bundle bundle = bundleIndex.cheapest();
+        PriceEvent.CheapestBrand cheapest = bundle == null
+                ? new PriceEvent.CheapestBrand(null, null)
+                : new PriceEvent.CheapestBrand(bundle.brand(), bundle.total());
+        if (!Objects.equals(cheapest, lastCheapest)
+                && (lastCheapest != null || cheapest.getBrand() != null)) {
+            deltas.add(cheapest);
+        }
+        lastCheapest = cheapest;
+
+        if (!deltas.isEmpty()) {
+            List<Object> batch = List.copyOf(deltas);
+            sender.execute(() -> batch.forEach(this::broadcast));
+        }
+        return deltas;
+    }
+
+    /** sender 스레드에서만 호출 */
+    private void broadcast(Object event) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(toSse(event));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 구독자 제거: {}", e.getMessage());
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(Object event) {
+        String name = event instanceof PriceEvent.CategoryExtremes
+                ? PriceEvent.CATEGORY
+                : PriceEvent.CHEAPEST_BRAND;
+        return SseEmitter.event().name(name).data(event);
+    }
+
+    private static PriceEvent.CategoryExtremes toEvent(Category c, CategoryPriceIndex.Extremes e) {
+        if (e == null) {
+            return new PriceEvent.CategoryExtremes(c.getKrName(), null, List.of(), null, List.of());
+        }
+        return new PriceEvent.CategoryExtremes(
+                c.getKrName(), e.minPrice(), e.minBrands(), e.maxPrice(), e.maxBrands());
+    }
+}
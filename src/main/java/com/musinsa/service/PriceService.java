@@ -4,47 +4,99 @@ import com.musinsa.common.ApiException;
 import com.musinsa.domain.Category;
 import com.musinsa.domain.Product;
 import com.musinsa.common.ErrorCode;
-import com.musinsa.domain.Brand;
+import com.musinsa.dto.BrandLeaderboardResponse;
+import com.musinsa.dto.BrandRankResponse;
+import com.musinsa.dto.CategoryRankingResponse;
 import com.musinsa.dto.CategoryStatResponse;
 import com.musinsa.dto.LowestByBrandResponse;
 import com.musinsa.dto.LowestByCategoryResponse;
+import com.musinsa.index.BrandBundleIndex;
+import com.musinsa.index.CategoryPriceIndex;
+import com.musinsa.index.PriceChange;
 import com.musinsa.repository.BrandRepository;
+import com.musinsa.repository.BrandTotal;
+import com.musinsa.repository.CategoryPriceSummary;
 import com.musinsa.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PriceService {
+    /** 순위 조회 한 번에 돌려주는 최대 개수 */
+    static final int MAX_RANKING_LIMIT = 100;
+
     private final ProductRepository productRepo;
     private final BrandRepository brandRepo;
+    private final CategoryPriceIndex categoryIndex;
+    private final BrandBundleIndex bundleIndex;
 
     /**
      * 구현1) 카테고리별 최저가 조회
+     * - 인덱스 로딩 후에는 DB 접근 없이 스냅샷에서 응답
      */
+    @Timed("price.query")
     public LowestByCategoryResponse getLowestByCategory() {
+        if (!categoryIndex.isLoaded()) {
+            return getLowestByCategoryFromDb();
+        }
+
+        int total = 0;
+        List<LowestByCategoryResponse.CategoryBrandPrice> list = new ArrayList<>();
+
+        for (Category c : Category.values()) {
+            CategoryPriceIndex.Extremes ex = categoryIndex.extremes(c);
+            if (ex == null) {
+                throw new ApiException(
+                        ErrorCode.PRODUCT_NOT_FOUND,
+                        c.getKrName() + " 카테고리에 상품이 없습니다."
+                );
+            }
+
+            list.add(new LowestByCategoryResponse.CategoryBrandPrice(
+                    c.getKrName(),
+                    ex.minBrands().get(0),
+                    ex.minPrice()
+            ));
+            total += ex.minPrice();
+        }
+
+        return LowestByCategoryResponse.builder()
+                .items(list)
+                .total(total)
+                .build();
+    }
+
+    /** 인덱스 로딩 전: 단일 집계 쿼리 결과로 응답 구성 */
+    private LowestByCategoryResponse getLowestByCategoryFromDb() {
+        Map<Category, PriceChange> cheapest = new EnumMap<>(Category.class);
+        for (PriceChange row : productRepo.findCheapestRowsAllCategories()) {
+            cheapest.putIfAbsent(row.category(), row);
+        }
+
         int total = 0;
         List<LowestByCategoryResponse.CategoryBrandPrice> list = new ArrayList<>();
 
         for (Category c : Category.values()) {
-            Product min = productRepo.findMinPriceByCategory(c).stream()
-                    .findFirst()
-                    .orElseThrow(() ->
-                            new ApiException(
-                                    ErrorCode.PRODUCT_NOT_FOUND,
-                                    c.getKrName() + " 카테고리에 상품이 없습니다."
-                            )
-                    );
+            PriceChange min = cheapest.get(c);
+            if (min == null) {
+                throw new ApiException(
+                        ErrorCode.PRODUCT_NOT_FOUND,
+                        c.getKrName() + " 카테고리에 상품이 없습니다."
+                );
+            }
 
             list.add(new LowestByCategoryResponse.CategoryBrandPrice(
                     c.getKrName(),
-                    min.getBrand().getName(),
-                    min.getPrice()
+                    min.brand(),
+                    min.price()
             ));
-            total += min.getPrice();
+            total += min.price();
         }
 
         return LowestByCategoryResponse.builder()
@@ -55,78 +107,243 @@ public class PriceService {
 
     /**
      * 구현2) 단일 브랜드 최저가 번들
+     * - 인덱스 로딩 후에는 총액 정렬 집합의 첫 원소를 그대로 사용
      */
+    @Timed("price.query")
     public LowestByBrandResponse getLowestBySingleBrand() {
-        List<Brand> brands = brandRepo.findAll();
-        if (brands.isEmpty()) {
+        if (!bundleIndex.isLoaded()) {
+            return getLowestBySingleBrandFromDb();
+        }
+
+        BrandBundleIndex.Bundle best = bundleIndex.cheapest();
+        if (best == null) {
+            // 실패 경로에서만 브랜드 존재 여부를 확인해 기존 메시지를 유지
             throw new ApiException(
                     ErrorCode.BRAND_NOT_FOUND,
-                    "등록된 브랜드가 없습니다."
+                    brandRepo.count() == 0
+                            ? "등록된 브랜드가 없습니다."
+                            : "모든 카테고리를 가진 브랜드가 없습니다."
             );
         }
 
-        Brand best = null;
-        int bestTotal = Integer.MAX_VALUE;
-        Map<Category, Product> bestMap = null;
-
-        for (Brand b : brands) {
-            Map<Category, Product> map = b.getProducts().stream()
-                    .collect(Collectors.toMap(
-                            Product::getCategory,
-                            p -> p,
-                            (a, bProd) -> a.getPrice() <= bProd.getPrice() ? a : bProd
-                    ));
-            // 모든 카테고리 커버 확인
-            if (map.size() != Category.values().length) {
-                continue;
-            }
-
-            int sum = map.values().stream()
-                    .mapToInt(Product::getPrice)
-                    .sum();
+        List<LowestByBrandResponse.CategoryPrice> details = best.prices().entrySet().stream()
+                .map(e -> new LowestByBrandResponse.CategoryPrice(
+                        e.getKey().getKrName(),
+                        e.getValue()
+                ))
+                .toList();
 
-            if (sum < bestTotal) {
-                bestTotal = sum;
-                best = b;
-                bestMap = map;
-            }
-        }
+        return LowestByBrandResponse.builder()
+                .brand(best.brand())
+                .categories(details)
+                .total(best.total())
+                .build();
+    }
 
-        if (best == null) {
+    /** 인덱스 로딩 전: SQL 집계로 우승 브랜드만 고른 뒤 그 브랜드 상품만 조회 */
+    private LowestByBrandResponse getLowestBySingleBrandFromDb() {
+        List<BrandTotal> winners = productRepo.findCompleteBrandTotals(
+                Category.values().length, Limit.of(1));
+        if (winners.isEmpty()) {
             throw new ApiException(
                     ErrorCode.BRAND_NOT_FOUND,
-                    "모든 카테고리를 가진 브랜드가 없습니다."
+                    brandRepo.count() == 0
+                            ? "등록된 브랜드가 없습니다."
+                            : "모든 카테고리를 가진 브랜드가 없습니다."
             );
         }
+        BrandTotal best = winners.get(0);
 
-        List<LowestByBrandResponse.CategoryPrice> details = bestMap.values().stream()
-                .map(p -> new LowestByBrandResponse.CategoryPrice(
-                        p.getCategory().getKrName(),
-                        p.getPrice()
-                ))
-                .toList();
+        List<LowestByBrandResponse.CategoryPrice> details =
+                productRepo.findPriceRowsByBrandId(best.brandId()).stream()
+                        .sorted(Comparator.comparing(PriceChange::category))
+                        .map(r -> new LowestByBrandResponse.CategoryPrice(
+                                r.category().getKrName(),
+                                r.price()
+                        ))
+                        .toList();
 
         return LowestByBrandResponse.builder()
-                .brand(best.getName())
+                .brand(best.brand())
                 .categories(details)
-                .total(bestTotal)
+                .total(best.total().intValue())
                 .build();
     }
 
+    /**
+     * 단일 브랜드 번들 총액 순위표 (총액 오름차순, 동률은 같은 순위·브랜드명 순)
+     * - 인덱스 로딩 후에는 순서 통계 트리에서 O(log n + limit)
+     */
+    @Timed("price.query")
+    public BrandLeaderboardResponse getBrandLeaderboard(int offset, int limit) {
+        int from = Math.max(0, Math.min(offset, Integer.MAX_VALUE - MAX_RANKING_LIMIT));
+        int size = Math.max(1, Math.min(limit, MAX_RANKING_LIMIT));
+
+        BrandBundleIndex.Leaderboard board = bundleIndex.isLoaded()
+                ? bundleIndex.leaderboard(from, size)
+                : getBrandLeaderboardFromDb(from, size);
+
+        return BrandLeaderboardResponse.builder()
+                .brands(board.brands())
+                .offset(from)
+                .items(board.items().stream()
+                        .map(s -> new BrandRankResponse(s.rank(), s.brand(), s.total()))
+                        .toList())
+                .build();
+    }
+
+    /** 인덱스 로딩 전: 집계 쿼리로 앞에서 offset + limit 개를 읽어 순위를 매긴 뒤 구간만 남긴다 */
+    private BrandBundleIndex.Leaderboard getBrandLeaderboardFromDb(int offset, int limit) {
+        List<BrandTotal> rows = productRepo.findCompleteBrandTotals(
+                Category.values().length, Limit.of(offset + limit));
+        List<BrandBundleIndex.Standing> items = new ArrayList<>();
+        int rank = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (i == 0 || !rows.get(i).total().equals(rows.get(i - 1).total())) {
+                rank = i + 1;
+            }
+            if (i >= offset) {
+                BrandTotal r = rows.get(i);
+                items.add(new BrandBundleIndex.Standing(rank, r.brand(), r.total().intValue()));
+            }
+        }
+        int brands = (int) productRepo.countCompleteBrandsBelow(Category.values().length, Long.MAX_VALUE);
+        return new BrandBundleIndex.Leaderboard(brands, items);
+    }
+
+    /**
+     * 브랜드 한 곳의 번들 총액 순위
+     * - 인덱스 로딩 후에는 O(log n), DB 접근 없음
+     * - 모든 카테고리를 갖지 않은 브랜드는 404
+     */
+    @Timed("price.query")
+    public BrandRankResponse getBrandRank(String brand) {
+        BrandBundleIndex.Standing standing = bundleIndex.isLoaded()
+                ? bundleIndex.standing(brand)
+                : getBrandRankFromDb(brand);
+        if (standing == null) {
+            throw new ApiException(
+                    ErrorCode.BRAND_NOT_FOUND,
+                    "모든 카테고리를 가진 브랜드가 아닙니다: " + brand
+            );
+        }
+        return new BrandRankResponse(standing.rank(), standing.brand(), standing.total());
+    }
+
+    /** 인덱스 로딩 전: 브랜드 가격 행으로 총액을 구하고, 더 싼 번들 수를 센다 */
+    private BrandBundleIndex.Standing getBrandRankFromDb(String brand) {
+        List<PriceChange> rows = productRepo.findPriceRowsByBrandNameIn(List.of(brand));
+        if (rows.size() < Category.values().length) {
+            return null;
+        }
+        int total = rows.stream().mapToInt(PriceChange::price).sum();
+        long cheaper = productRepo.countCompleteBrandsBelow(Category.values().length, total);
+        return new BrandBundleIndex.Standing((int) cheaper + 1, brand, total);
+    }
+
     /**
      * 구현3) 카테고리별 최저·최고가 조회
      */
+    @Timed("price.query")
     public CategoryStatResponse getCategoryStat(String krCategory) {
-        Category c;
-        try {
-            c = Category.fromKr(krCategory);
-        } catch (IllegalArgumentException e) {
+        Category c = parseCategory(krCategory);
+
+        if (!categoryIndex.isLoaded()) {
+            return getCategoryStatFromDb(c);
+        }
+
+        CategoryPriceIndex.Extremes ex = categoryIndex.extremes(c);
+        if (ex == null) {
             throw new ApiException(
-                    ErrorCode.VALIDATION_ERROR,
-                    "유효하지 않은 카테고리명입니다: " + krCategory
+                    ErrorCode.CATEGORY_NOT_FOUND,
+                    "요청하신 카테고리를 찾을 수 없습니다."
+            );
+        }
+
+        return extremesOf(c, ex).build();
+    }
+
+    /**
+     * 구현3 확장) 최저·최고가 + 가격 분포(개수·평균·p50·p90·p99)
+     * - 인덱스 로딩 후에는 증분 유지된 개수·합계와 순서 통계 트리 select 로 O(log n), DB 접근 없음
+     */
+    @Timed("price.query")
+    public CategoryStatResponse getCategoryStatDetail(String krCategory) {
+        Category c = parseCategory(krCategory);
+
+        if (!categoryIndex.isLoaded()) {
+            return getCategoryStatDetailFromDb(c);
+        }
+
+        CategoryPriceIndex.Extremes ex = categoryIndex.extremes(c);
+        CategoryPriceIndex.Distribution d = categoryIndex.distribution(c);
+        if (ex == null || d == null) {
+            throw new ApiException(
+                    ErrorCode.CATEGORY_NOT_FOUND,
+                    "요청하신 카테고리를 찾을 수 없습니다."
             );
         }
 
+        return extremesOf(c, ex)
+                .distribution(new CategoryStatResponse.Distribution(
+                        d.count(), d.mean(), d.p50(), d.p90(), d.p99()))
+                .build();
+    }
+
+    private static CategoryStatResponse.CategoryStatResponseBuilder extremesOf(
+            Category c, CategoryPriceIndex.Extremes ex) {
+        return CategoryStatResponse.builder()
+                .category(c.getKrName())
+                .lowest(ex.minBrands().stream()
+                        .map(b -> new CategoryStatResponse.BrandPrice(b, ex.minPrice()))
+                        .toList())
+                .highest(ex.maxBrands().stream()
+                        .map(b -> new CategoryStatResponse.BrandPrice(b, ex.maxPrice()))
+                        .toList());
+    }
+
+    /**
+     * 인덱스 로딩 전: 카테고리 전체를 읽지 않고 SQL 5회 (카테고리 크기와 무관)
+     * - 개수·합계·최저·최고가 집계 1회 → 분위수 위치마다 OFFSET/LIMIT 1 행 3회 → 양 끝 동률 브랜드 1회
+     */
+    private CategoryStatResponse getCategoryStatDetailFromDb(Category c) {
+        CategoryPriceSummary summary = productRepo.summarizeByCategory(c);
+        if (summary == null || summary.count() == null || summary.count() == 0) {
+            throw new ApiException(
+                    ErrorCode.CATEGORY_NOT_FOUND,
+                    "요청하신 카테고리를 찾을 수 없습니다."
+            );
+        }
+
+        int n = summary.count().intValue();
+        int min = summary.min();
+        int max = summary.max();
+        List<PriceChange> extremes = productRepo.findAtPricesByCategory(c, min, max);
+
+        return CategoryStatResponse.builder()
+                .category(c.getKrName())
+                .lowest(extremes.stream()
+                        .filter(r -> r.price() == min)
+                        .map(r -> new CategoryStatResponse.BrandPrice(r.brand(), r.price()))
+                        .toList())
+                .highest(extremes.stream()
+                        .filter(r -> r.price() == max)
+                        .map(r -> new CategoryStatResponse.BrandPrice(r.brand(), r.price()))
+                        .toList())
+                .distribution(new CategoryStatResponse.Distribution(
+                        n, (double) summary.sum() / n,
+                        priceAt(c, summary, 500), priceAt(c, summary, 900), priceAt(c, summary, 990)))
+                .build();
+    }
+
+    /** 가격순 nearest-rank 위치의 한 행만 조회 (집계 이후 행이 줄어 위치가 비면 집계 최고가) */
+    private int priceAt(Category c, CategoryPriceSummary summary, int permille) {
+        int rank = CategoryPriceIndex.Distribution.nearestRank(summary.count().intValue(), permille);
+        List<Integer> price = productRepo.findPricesByCategory(c, PageRequest.of(rank, 1));
+        return price.isEmpty() ? summary.max() : price.get(0);
+    }
+
+    private CategoryStatResponse getCategoryStatFromDb(Category c) {
         List<Product> minProd = productRepo.findMinPriceByCategory(c);
         if (minProd.isEmpty()) {
             throw new ApiException(
@@ -157,4 +374,62 @@ public class PriceService {
                 .highest(maxList)
                 .build();
     }
+
+    /**
+     * 카테고리 최저가 순위 (가격 오름차순, 동률은 같은 순위·브랜드명 순)
+     * - 인덱스 로딩 후에는 순서 통계 트리에서 O(log n + limit)
+     * - offset 이 브랜드 수 이상이면 빈 목록
+     */
+    @Timed("price.query")
+    public CategoryRankingResponse getCategoryRanking(String krCategory, int offset, int limit) {
+        Category c = parseCategory(krCategory);
+        int from = Math.max(0, Math.min(offset, Integer.MAX_VALUE - MAX_RANKING_LIMIT));
+        int size = Math.max(1, Math.min(limit, MAX_RANKING_LIMIT));
+
+        CategoryPriceIndex.Ranking ranking = categoryIndex.isLoaded()
+                ? categoryIndex.ranking(c, from, size)
+                : getCategoryRankingFromDb(c, from, size);
+        if (ranking.total() == 0) {
+            throw new ApiException(
+                    ErrorCode.CATEGORY_NOT_FOUND,
+                    "요청하신 카테고리를 찾을 수 없습니다."
+            );
+        }
+
+        return CategoryRankingResponse.builder()
+                .category(c.getKrName())
+                .total(ranking.total())
+                .offset(from)
+                .items(ranking.items().stream()
+                        .map(r -> new CategoryRankingResponse.RankedBrand(r.rank(), r.brand(), r.price()))
+                        .toList())
+                .build();
+    }
+
+    /** 인덱스 로딩 전: 앞에서 offset + limit 행을 읽어 순위를 매긴 뒤 구간만 남긴다 */
+    private CategoryPriceIndex.Ranking getCategoryRankingFromDb(Category c, int offset, int limit) {
+        List<PriceChange> rows = productRepo.findRankedByCategory(c, Limit.of(offset + limit));
+        List<CategoryPriceIndex.Ranked> items = new ArrayList<>();
+        int rank = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (i == 0 || !rows.get(i).price().equals(rows.get(i - 1).price())) {
+                rank = i + 1;
+            }
+            if (i >= offset) {
+                items.add(new CategoryPriceIndex.Ranked(rank, rows.get(i).brand(), rows.get(i).price()));
+            }
+        }
+        return new CategoryPriceIndex.Ranking((int) productRepo.countByCategory(c), items);
+    }
+
+    private static Category parseCategory(String krCategory) {
+        try {
+            return Category.fromKr(krCategory);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(
+                    ErrorCode.VALIDATION_ERROR,
+                    "유효하지 않은 카테고리명입니다: " + krCategory
+            );
+        }
+    }
 }
@@ -0,0 +1,129 @@
+package com.musinsa.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.domain.Category;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * 전체 카탈로그 스트리밍 내보내기 (NDJSON / CSV)
+ * - JDBC 커서를 fetch size 단위로 읽으면서 한 행씩 바로 기록 → 카탈로그 크기와 무관하게 힙 사용량 일정
+ * - FLUSH_EVERY 행마다 flush 해 클라이언트가 즉시 받기 시작
+ * - MySQL 에서 실제 커서 스트리밍을 하려면 JDBC URL 에 useCursorFetch=true 필요
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+    static final int FETCH_SIZE = 1_000;
+    static final int FLUSH_EVERY = 1_000;
+    private static final String SELECT_ALL = """
+            select p.id, b.name, p.category, p.price
+            from product p join brand b on b.id = p.brand_id
+            order by p.id
+            """;
+
+    /** 공유 JdbcTemplate 설정은 건드리지 않고 이 쿼리에만 forward-only 커서 + fetch size 적용 */
+    private static final PreparedStatementCreator SELECT_ALL_STREAMING = con -> {
+        PreparedStatement ps = con.prepareStatement(
+                SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(FETCH_SIZE);
+        return ps;
+    };
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+
+    public enum Format { NDJSON, CSV }
+
+    @Timed("catalog.export")
+    public void export(OutputStream out, Format format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowSink sink = format == Format.NDJSON
+                ? new NdjsonSink(objectMapper.getFactory().createGenerator(writer))
+                : new CsvSink(writer);
+
+        int[] rows = {0};
+        jdbc.query(SELECT_ALL_STREAMING, (RowCallbackHandler) rs -> {
+            try {
+                sink.write(rs.getLong(1), rs.getString(2),
+                        Category.valueOf(rs.getString(3)).getKrName(), rs.getInt(4));
+                if (++rows[0] % FLUSH_EVERY == 0) {
+                    sink.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);   // 클라이언트 연결 끊김 → 커서 닫고 중단
+            }
+        });
+        sink.flush();
+    }
+
+    private interface RowSink {
+        void write(long id, String brand, String category, int price) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private record NdjsonSink(JsonGenerator gen) implements RowSink {
+        @Override
+        public void write(long id, String brand, String category, int price) throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("id", id);
+            gen.writeStringField("brand", brand);
+            gen.writeStringField("category", category);
+            gen.writeNumberField("price", price);
+            gen.writeEndObject();
+            gen.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            gen.flush();
+        }
+    }
+
+    private static final class CsvSink implements RowSink {
+        private final Writer writer;
+
+        CsvSink(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write("id,brand,category,price\n");
+        }
+
+        @Override
+        public void write(long id, String brand, String category, int price) throws IOException {
+            writer.write(Long.toString(id));
+            writer.write(',');
+            writer.write(escape(brand));
+            writer.write(',');
+            writer.write(category);
+            writer.write(',');
+            writer.write(Integer.toString(price));
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        /** RFC 4180: 쉼표·따옴표·개행이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 */
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
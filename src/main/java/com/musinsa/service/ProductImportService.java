@@ -0,0 +1,283 @@
+package com.musinsa.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.common.ErrorCode;
+import com.musinsa.domain.Brand;
+import com.musinsa.domain.Category;
+import com.musinsa.domain.Product;
+import com.musinsa.dto.BulkImportResponse;
+import com.musinsa.dto.CreateProductRequest;
+import com.musinsa.index.CatalogChangedEvent;
+import com.musinsa.index.PriceChange;
+import com.musinsa.repository.BrandRepository;
+import com.musinsa.repository.ProductRepository;
+import com.musinsa.repository.SequenceIdAllocator;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON / CSV 본문을 스트리밍으로 읽어 상품을 대량 등록합니다.
+ * - CHUNK_SIZE 행 단위로 브랜드 일괄 조회 → 검증 → JDBC 배치 INSERT
+ * - 청크마다 트랜잭션 1개, 가격 인덱스 이벤트 1개
+ * - 실패 행은 줄 번호와 사유를 모아 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+    /** 헤더로 인정하는 컬럼 구성 – 기본 양식과 내보내기(/export?format=csv) 양식 */
+    private static final List<List<String>> CSV_HEADERS = List.of(
+            List.of("brand", "category", "price"),
+            List.of("id", "brand", "category", "price"));
+    private static final String INSERT_PRODUCT =
+            "insert into product(id, brand_id, category, price) values (?, ?, ?, ?)";
+
+    private final BrandRepository brandRepo;
+    private final ProductRepository productRepo;
+    private final JdbcTemplate jdbc;
+    private final SequenceIdAllocator idAllocator;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher events;
+    private final ObjectMapper objectMapper;
+
+    public enum Format { NDJSON, CSV }
+
+    private record Row(int line, String brand, Category category, int price) {}
+
+    private record Key(String brand, Category category) {}
+
+    /** 한 요청 동안의 집계 */
+    private static final class Report {
+        int total;
+        int imported;
+        int failed;
+        final List<BulkImportResponse.RowError> errors = new ArrayList<>();
+
+        void fail(int line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BulkImportResponse.RowError(line, message));
+            }
+        }
+
+        BulkImportResponse toResponse() {
+            return BulkImportResponse.builder()
+                    .total(total)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .build();
+        }
+    }
+
+    @Timed("catalog.write")
+    public BulkImportResponse importProducts(InputStream body, Format format) throws IOException {
+        Report report = new Report();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                int startLine = lineNo;
+                if (format == Format.CSV) {
+                    // 따옴표 안의 개행은 레코드의 일부 → 따옴표가 닫힐 때까지 다음 줄을 이어 붙임
+                    String next;
+                    while (hasOpenQuote(line) && (next = reader.readLine()) != null) {
+                        lineNo++;
+                        line = line + "\n" + next;
+                    }
+                }
+                if (line.isBlank() || (format == Format.CSV && startLine == 1 && isCsvHeader(line))) {
+                    continue;
+                }
+                report.total++;
+                Row row = parse(startLine, line, format, report);
+                if (row == null) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+        return report.toResponse();
+    }
+
+    private Row parse(int lineNo, String line, Format format, Report report) {
+        String brand;
+        String categoryKr;
+        Integer price;
+        try {
+            if (format == Format.NDJSON) {
+                CreateProductRequest req = objectMapper.readValue(line, CreateProductRequest.class);
+                brand = req.getBrand();
+                categoryKr = req.getCategory();
+                price = req.getPrice();
+            } else {
+                List<String> cols = splitCsv(line);
+                if (cols == null) {
+                    report.fail(lineNo, "CSV 따옴표가 올바르지 않습니다.");
+                    return null;
+                }
+                // 내보내기 양식(id,brand,category,price)은 id 를 무시하고 그대로 다시 등록 가능
+                int offset = cols.size() - 3;
+                if (offset != 0 && offset != 1) {
+                    report.fail(lineNo, "CSV 컬럼은 [id,]brand,category,price 3~4개여야 합니다.");
+                    return null;
+                }
+                brand = cols.get(offset).trim();
+                categoryKr = cols.get(offset + 1).trim();
+                price = Integer.parseInt(cols.get(offset + 2).trim());
+            }
+        } catch (IOException | NumberFormatException e) {
+            report.fail(lineNo, ErrorCode.VALIDATION_ERROR.getDefaultMessage());
+            return null;
+        }
+
+        if (brand == null || brand.isBlank()) {
+            report.fail(lineNo, ErrorCode.VALIDATION_ERROR.getDefaultMessage());
+            return null;
+        }
+        if (price == null) {
+            report.fail(lineNo, "가격은 필수입니다.");
+            return null;
+        }
+        if (!Product.isValidPrice(price)) {
+            report.fail(lineNo, "가격은 0보다 커야 합니다.");
+            return null;
+        }
+        try {
+            return new Row(lineNo, brand, Category.fromKr(categoryKr), price);
+        } catch (IllegalArgumentException e) {
+            report.fail(lineNo, String.format("유효하지 않은 카테고리명입니다: '%s'.", categoryKr));
+            return null;
+        }
+    }
+
+    private void importChunk(List<Row> chunk, Report report) {
+        List<Row> accepted = new ArrayList<>(chunk.size());
+        try {
+            tx.executeWithoutResult(status -> {
+                Set<String> names = chunk.stream().map(Row::brand).collect(Collectors.toSet());
+                Map<String, Long> brandIds = brandRepo.findByNameIn(names).stream()
+                        .collect(Collectors.toMap(Brand::getName, Brand::getId));
+                Set<Key> taken = productRepo.findPriceRowsByBrandNameIn(names).stream()
+                        .map(r -> new Key(r.brand(), r.category()))
+                        .collect(Collectors.toCollection(HashSet::new));
+
+                for (Row r : chunk) {
+                    if (!brandIds.containsKey(r.brand())) {
+                        report.fail(r.line(), String.format("브랜드 '%s'를 찾을 수 없습니다.", r.brand()));
+                    } else if (!taken.add(new Key(r.brand(), r.category()))) {
+                        report.fail(r.line(), ErrorCode.PRODUCT_ALREADY_EXISTS.getDefaultMessage());
+                    } else {
+                        accepted.add(r);
+                    }
+                }
+
+                if (accepted.isEmpty()) {
+                    return;
+                }
+                LongSupplier ids = idAllocator.supplier(SequenceIdAllocator.PRODUCT_SEQ);
+                jdbc.batchUpdate(INSERT_PRODUCT, accepted, accepted.size(), (ps, r) -> {
+                    ps.setLong(1, ids.getAsLong());
+                    ps.setLong(2, brandIds.get(r.brand()));
+                    ps.setString(3, r.category().name());
+                    ps.setInt(4, r.price());
+                });
+                events.publishEvent(new CatalogChangedEvent(accepted.stream()
+                        .map(r -> PriceChange.put(r.brand(), r.category(), r.price()))
+                        .toList()));
+            });
+            report.imported += accepted.size();
+        } catch (DataAccessException e) {
+            // 동시 등록 등으로 청크가 롤백되면 해당 청크의 적재 대상 행 전체를 실패 처리
+            log.warn("Bulk import chunk rolled back", e);
+            accepted.forEach(r -> report.fail(r.line(), ErrorCode.INTERNAL_ERROR.getDefaultMessage()));
+        }
+    }
+
+    private static boolean isCsvHeader(String line) {
+        List<String> cols = splitCsv(line);
+        if (cols == null) {
+            return false;
+        }
+        List<String> names = cols.stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+        return CSV_HEADERS.contains(names);
+    }
+
+    /** 따옴표 개수가 홀수면 닫히지 않은 필드가 있음 ("" 이스케이프는 짝수로 상쇄) */
+    private static boolean hasOpenQuote(String record) {
+        return record.chars().filter(c -> c == '"').count() % 2 == 1;
+    }
+
+    /**
+     * RFC 4180 레코드 분리
+     * - 따옴표로 감싼 필드 안의 쉼표·개행은 값의 일부, "" 는 따옴표 한 개
+     * - 따옴표가 닫히지 않았거나 닫는 따옴표 뒤에 구분자가 아닌 문자가 오면 null
+     */
+    static List<String> splitCsv(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        int n = record.length();
+        while (true) {
+            if (i < n && record.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= n) {
+                        return null;
+                    }
+                    char c = record.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < n && record.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < n && record.charAt(i) != ',') {
+                    return null;
+                }
+            } else {
+                while (i < n && record.charAt(i) != ',') {
+                    field.append(record.charAt(i++));
+                }
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= n) {
+                return fields;
+            }
+            i++;   // ','
+        }
+    }
+}
@@ -6,31 +6,52 @@ import com.musinsa.common.ErrorCode;
 import com.musinsa.domain.Brand;
 import com.musinsa.domain.Category;
 import com.musinsa.domain.Product;
+import com.musinsa.dto.ProductPageResponse;
 import com.musinsa.dto.ProductResponse;
-import com.musinsa.repository.BrandRepository;
+import com.musinsa.index.CatalogChangedEvent;
+import com.musinsa.index.PriceChange;
 import com.musinsa.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
-    private final BrandRepository brandRepo;
+    /** IN 절 길이 상한 */
+    private static final int LOOKUP_CHUNK = 1000;
+    /** 목록 페이지 크기 상한 */
+    static final int MAX_PAGE_SIZE = 1000;
+    /** 가격 일괄 수정 한 요청의 상한 (모두 한 영속성 컨텍스트에 적재되므로) */
+    public static final int MAX_PRICE_UPDATES = 1000;
+    private static final String CURSOR_PREFIX = "v1:";
+
     private final ProductRepository productRepo;
+    private final BrandIdCache brandIds;
+    private final ApplicationEventPublisher events;
 
     /**
      * 새로운 상품을 등록합니다.
-     * - 브랜드가 존재하는지 확인
+     * - 브랜드가 존재하는지 확인 (BrandIdCache 적중 시 조회 쿼리 없음)
      * - 카테고리 문자열을 enum으로 변환, 유효성 검증
      * - 동일 브랜드·카테고리의 상품 중복 검사 후 등록
      */
+    @Timed("catalog.write")
     @Transactional
     public Product createProduct(String brandName, String categoryKr, int price) {
-        Brand brand = brandRepo.findByName(brandName)
+        requireValidPrice(price);
+        Brand brand = brandIds.find(brandName)
                 .orElseThrow(() -> new ApiException(
                         ErrorCode.BRAND_NOT_FOUND,
                         String.format("브랜드 '%s'를 찾을 수 없습니다.", brandName)
@@ -47,20 +68,32 @@ public class ProductService {
         }
 
         // 중복 검사: 이미 존재하는 브랜드·카테고리 조합인지 확인
-        if (productRepo.existsByBrandAndCategory(brand, category)) {
+        // 결과가 없으면 캐시 적중 id 의 브랜드가 다른 경로로 삭제된 것 → 엔트리를 버리고 404
+        boolean taken = productRepo.findCategoryTakenByBrandId(brand.getId(), category)
+                .orElseThrow(() -> {
+                    brandIds.evict(brandName);
+                    return new ApiException(
+                            ErrorCode.BRAND_NOT_FOUND,
+                            String.format("브랜드 '%s'를 찾을 수 없습니다.", brandName));
+                });
+        if (taken) {
             /* 기본 메시지(해당 브랜드·카테고리 조합의 상품이 이미 존재합니다.) 사용 */
             throw new ApiException(ErrorCode.PRODUCT_ALREADY_EXISTS);
         }
 
         Product product = new Product(brand, category, price);
-        return productRepo.save(product);
+        Product saved = productRepo.save(product);
+        events.publishEvent(CatalogChangedEvent.of(PriceChange.put(brandName, category, price)));
+        return saved;
     }
 
     /**
      * 기존 상품의 가격을 수정합니다.
      */
+    @Timed("catalog.write")
     @Transactional
     public Product updateProduct(Long id, int newPrice) {
+        requireValidPrice(newPrice);
         Product p = productRepo.findById(id)
                 .orElseThrow(() -> new ApiException(
                         ErrorCode.PRODUCT_NOT_FOUND,
@@ -68,12 +101,81 @@ public class ProductService {
                 ));
 
         p.setPrice(newPrice);
+        events.publishEvent(CatalogChangedEvent.of(
+                PriceChange.put(p.getBrand().getName(), p.getCategory(), newPrice)));
         return p;
     }
 
+    /**
+     * 여러 상품의 가격을 한 트랜잭션에서 수정합니다.
+     * - 비어 있거나 MAX_PRICE_UPDATES 를 넘거나 0 이하 가격이 있으면 조회 전에 400
+     * - 하나라도 없는 ID 가 있으면 전체 롤백
+     * - 실제로 바뀐 상품만 UPDATE (JDBC 배치), 인덱스 갱신 이벤트는 마지막에 한 번만 발행
+     */
+    @Timed("catalog.write")
+    @Transactional
+    public void updatePrices(Map<Long, Integer> newPrices) {
+        validatePriceUpdates(newPrices);
+
+        List<Long> ids = new ArrayList<>(newPrices.keySet());
+        List<Product> products = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK) {
+            products.addAll(productRepo.findAllWithBrandByIdIn(
+                    ids.subList(from, Math.min(from + LOOKUP_CHUNK, ids.size()))));
+        }
+
+        if (products.size() != ids.size()) {
+            Set<Long> missing = new TreeSet<>(ids);
+            products.forEach(p -> missing.remove(p.getId()));
+            throw new ApiException(
+                    ErrorCode.PRODUCT_NOT_FOUND,
+                    String.format("상품 ID %s를 찾을 수 없습니다.", missing)
+            );
+        }
+
+        List<PriceChange> changes = new ArrayList<>();
+        for (Product p : products) {
+            int newPrice = newPrices.get(p.getId());
+            if (p.getPrice() != newPrice) {
+                p.setPrice(newPrice);
+                changes.add(PriceChange.put(p.getBrand().getName(), p.getCategory(), newPrice));
+            }
+        }
+        if (!changes.isEmpty()) {
+            events.publishEvent(new CatalogChangedEvent(changes));
+        }
+    }
+
+    private static void validatePriceUpdates(Map<Long, Integer> newPrices) {
+        if (newPrices.isEmpty()) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "수정할 상품이 없습니다.");
+        }
+        if (newPrices.size() > MAX_PRICE_UPDATES) {
+            throw new ApiException(
+                    ErrorCode.VALIDATION_ERROR,
+                    String.format("한 번에 최대 %d개 상품까지 수정할 수 있습니다.", MAX_PRICE_UPDATES)
+            );
+        }
+        newPrices.forEach((id, price) -> {
+            if (!Product.isValidPrice(price)) {
+                throw new ApiException(
+                        ErrorCode.VALIDATION_ERROR,
+                        String.format("상품 ID %d의 가격은 0보다 커야 합니다.", id)
+                );
+            }
+        });
+    }
+
+    private static void requireValidPrice(int price) {
+        if (!Product.isValidPrice(price)) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "가격은 0보다 커야 합니다.");
+        }
+    }
+
     /**
      * 상품을 삭제합니다.
      */
+    @Timed("catalog.write")
     @Transactional
     public void deleteProduct(Long id) {
         Product p = productRepo.findById(id)
@@ -83,21 +185,58 @@ public class ProductService {
                 ));
 
         productRepo.delete(p);
+        events.publishEvent(CatalogChangedEvent.of(
+                PriceChange.remove(p.getBrand().getName(), p.getCategory())));
     }
 
     /**
-     * 등록된 모든 상품을 조회합니다.
+     * 상품 목록을 id 키셋 페이지로 조회합니다.
+     * - cursor 는 직전 페이지 마지막 id 를 감싼 불투명 문자열
+     * - size 는 1 ~ MAX_PAGE_SIZE 로 보정, 한 행 더 읽어 다음 페이지 존재 여부 판단
+     * - category(한글명)·brand 가 주어지면 필터
      */
     @Transactional(readOnly = true)
-    public List<ProductResponse> getAllProducts() {
-        return productRepo.findAll().stream()
-                .map(p -> new ProductResponse(
-                        p.getId(),
-                        p.getBrand().getName(),
-                        p.getCategory(),
-                        p.getPrice()
-                ))
-                .collect(Collectors.toList());
+    public ProductPageResponse getProducts(String cursor, int size, String categoryKr, String brand) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Category category = null;
+        if (categoryKr != null && !categoryKr.isBlank()) {
+            try {
+                category = Category.fromKr(categoryKr);
+            } catch (IllegalArgumentException e) {
+                throw new ApiException(
+                        ErrorCode.VALIDATION_ERROR,
+                        String.format("유효하지 않은 카테고리명입니다: '%s'.", categoryKr)
+                );
+            }
+        }
+
+        List<ProductResponse> rows = productRepo.findPageAfter(
+                decodeCursor(cursor), category, brand, Limit.of(pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new ProductPageResponse(rows, null);
+        }
+        List<ProductResponse> page = rows.subList(0, pageSize);
+        return new ProductPageResponse(List.copyOf(page), encodeCursor(page.get(pageSize - 1).getId()));
+    }
+
+    static String encodeCursor(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (raw.startsWith(CURSOR_PREFIX)) {
+                return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 공통 처리 (NumberFormatException 포함)
+        }
+        throw new ApiException(ErrorCode.VALIDATION_ERROR, "유효하지 않은 커서입니다.");
     }
 
     /**
@@ -32,3 +32,7 @@ insert into product(id, brand_id, category, price) values
 -- I
 (65,9,'TOP',11400),(66,9,'OUTER',6700),(67,9,'BOTTOM',3200),(68,9,'SNEAKERS',9500),
 (69,9,'BAG',2400),(70,9,'HAT',1700),(71,9,'SOCKS',1700),(72,9,'ACCESSORY',2400);
+
+-- 명시적 id 이후부터 시퀀스 할당 (pooled-lo: 값 하나가 50개 구간을 소유)
+alter sequence brand_seq restart with 101;
+alter sequence product_seq restart with 101;
@@ -5,20 +5,26 @@ package com.musinsa.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musinsa.common.ApiException;
+import com.musinsa.common.BrandListCache;
 import com.musinsa.common.ErrorCode;
 import com.musinsa.common.GlobalExceptionHandler;
 import com.musinsa.dto.BrandRequest;
+import com.musinsa.index.BrandSetChangedEvent;
 import com.musinsa.service.BrandService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -32,6 +38,9 @@ class BrandAdminControllerTest {
     @Mock
     private BrandService brandService;
 
+    @Spy
+    private BrandListCache brandListCache = new BrandListCache(new ObjectMapper(), new SimpleMeterRegistry());
+
     @InjectMocks
     private BrandAdminController brandAdminController;
 
@@ -45,6 +54,65 @@ class BrandAdminControllerTest {
                 .build();
     }
 
+    /* ------------------------------------------------------------------
+     *  GET /api/v1/brands  (List)
+     * ------------------------------------------------------------------ */
+    @Test
+    void listBrands_cachedBytesAndEtag() throws Exception {
+        when(brandService.getAllBrandNames()).thenReturn(List.of("A", "B", "C"));
+
+        String etag = mockMvc.perform(get("/api/v1/brands"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/brands").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // 브랜드 생성·삭제 전까지 이름 조회는 한 번
+        verify(brandService, times(1)).getAllBrandNames();
+    }
+
+    @Test
+    void listBrands_paged() throws Exception {
+        when(brandService.getAllBrandNames()).thenReturn(List.of("A", "B", "C", "D", "E"));
+
+        mockMvc.perform(get("/api/v1/brands").param("page", "1").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("C"))
+                .andExpect(jsonPath("$[1]").value("D"));
+        mockMvc.perform(get("/api/v1/brands").param("page", "9").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void listBrands_afterBrandSetChanged_reloads() throws Exception {
+        when(brandService.getAllBrandNames()).thenReturn(List.of("A"), List.of("A", "B"));
+
+        mockMvc.perform(get("/api/v1/brands")).andExpect(jsonPath("$.length()").value(1));
+        brandListCache.onBrandSetChanged(BrandSetChangedEvent.created("B"));
+        mockMvc.perform(get("/api/v1/brands")).andExpect(jsonPath("$.length()").value(2));
+
+        verify(brandService, times(2)).getAllBrandNames();
+    }
+
+    /* ------------------------------------------------------------------
+     *  GET /api/v1/brands/suggest  (Autocomplete)
+     * ------------------------------------------------------------------ */
+    @Test
+    void suggestBrands_returnsMatches() throws Exception {
+        when(brandService.suggestBrandNames("A", 10)).thenReturn(List.of("A", "ADIDAS"));
+
+        mockMvc.perform(get("/api/v1/brands/suggest").param("prefix", "A"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("A"))
+                .andExpect(jsonPath("$[1]").value("ADIDAS"));
+
+        verify(brandService, never()).getBrand(anyString());
+    }
+
     /* ------------------------------------------------------------------
      *  POST /api/v1/brands  (Create)
      * ------------------------------------------------------------------ */
@@ -6,19 +6,31 @@ package com.musinsa.controller;
 import com.musinsa.common.ApiException;
 import com.musinsa.common.ErrorCode;
 import com.musinsa.common.GlobalExceptionHandler;
+import com.musinsa.common.JsonResponseCache;
+import com.musinsa.dto.BrandLeaderboardResponse;
+import com.musinsa.dto.BrandRankResponse;
+import com.musinsa.dto.CategoryRankingResponse;
 import com.musinsa.dto.CategoryStatResponse;
 import com.musinsa.dto.LowestByBrandResponse;
 import com.musinsa.dto.LowestByCategoryResponse;
+import com.musinsa.service.PriceEventService;
 import com.musinsa.service.PriceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -30,6 +42,12 @@ class PriceControllerTest {
     @Mock
     private PriceService priceService;
 
+    @Mock
+    private PriceEventService priceEventService;
+
+    @Spy
+    private JsonResponseCache responseCache = new JsonResponseCache(new ObjectMapper(), new SimpleMeterRegistry());
+
     @InjectMocks
     private PriceController priceController;
 
@@ -65,6 +83,40 @@ class PriceControllerTest {
         verify(priceService).getLowestByCategory();
     }
 
+    @Test
+    void getCheapestBrandsPerCategory_ifNoneMatch_returns304WithoutService() throws Exception {
+        when(priceService.getLowestByCategory()).thenReturn(
+                LowestByCategoryResponse.builder().total(34_100).build());
+
+        String etag = mockMvc.perform(get("/api/v1/categories/cheapest-brands"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(
+                        get("/api/v1/categories/cheapest-brands")
+                                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                )
+                .andExpect(status().isNotModified());
+
+        // 두 번째 요청은 캐시된 ETag 로만 응답
+        verify(priceService, times(1)).getLowestByCategory();
+    }
+
+    @Test
+    void getCheapestBrandsPerCategory_afterInvalidate_reloads() throws Exception {
+        when(priceService.getLowestByCategory()).thenReturn(
+                LowestByCategoryResponse.builder().total(34_100).build());
+
+        mockMvc.perform(get("/api/v1/categories/cheapest-brands")).andExpect(status().isOk());
+        responseCache.invalidate();
+        mockMvc.perform(get("/api/v1/categories/cheapest-brands"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(34_100));
+
+        verify(priceService, times(2)).getLowestByCategory();
+    }
+
     /* ------------------------------------------------------------------
      *  /api/v1/brands/cheapest
      * ------------------------------------------------------------------ */
@@ -147,4 +199,132 @@ class PriceControllerTest {
 
         verify(priceService).getCategoryStat(invalid);
     }
+
+    @Test
+    void getCategoryPriceStats_detailFull_includesDistribution() throws Exception {
+        String category = "상의";
+
+        CategoryStatResponse dummy =
+                CategoryStatResponse.builder()
+                        .category(category)
+                        .distribution(new CategoryStatResponse.Distribution(3, 2000.0, 1000, 4000, 4000))
+                        .build();
+
+        when(priceService.getCategoryStatDetail(category)).thenReturn(dummy);
+
+        mockMvc.perform(
+                        get("/api/v1/categories/{category}/price-stats", category)
+                                .param("detail", "full")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.distribution.count").value(3))
+                .andExpect(jsonPath("$.distribution.p90").value(4000));
+
+        verify(priceService).getCategoryStatDetail(category);
+        verify(priceService, never()).getCategoryStat(category);
+    }
+
+    @Test
+    void getCategoryPriceStats_unknownDetail_returns400() throws Exception {
+        mockMvc.perform(
+                        get("/api/v1/categories/{category}/price-stats", "상의")
+                                .param("detail", "partial")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION_ERROR.getCode()));
+
+        verifyNoInteractions(priceService);
+    }
+
+    /* ------------------------------------------------------------------
+     *  /api/v1/categories/{category}/ranking
+     * ------------------------------------------------------------------ */
+    @Test
+    void getCategoryRanking_passesPagingParams() throws Exception {
+        String category = "상의";
+
+        CategoryRankingResponse dummy =
+                CategoryRankingResponse.builder()
+                        .category(category)
+                        .total(3)
+                        .offset(1)
+                        .items(List.of(new CategoryRankingResponse.RankedBrand(2, "B", 2000)))
+                        .build();
+
+        when(priceService.getCategoryRanking(category, 1, 5)).thenReturn(dummy);
+
+        mockMvc.perform(
+                        get("/api/v1/categories/{category}/ranking", category)
+                                .param("offset", "1")
+                                .param("limit", "5")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.items[0].rank").value(2))
+                .andExpect(jsonPath("$.items[0].brand").value("B"));
+
+        verify(priceService).getCategoryRanking(category, 1, 5);
+    }
+
+    /* ------------------------------------------------------------------
+     *  /api/v1/brands/leaderboard, /api/v1/brands/{name}/rank
+     * ------------------------------------------------------------------ */
+    @Test
+    void getBrandLeaderboard_passesPagingParams() throws Exception {
+        BrandLeaderboardResponse dummy =
+                BrandLeaderboardResponse.builder()
+                        .brands(2)
+                        .offset(0)
+                        .items(List.of(new BrandRankResponse(1, "D", 36100)))
+                        .build();
+
+        when(priceService.getBrandLeaderboard(0, 1)).thenReturn(dummy);
+
+        mockMvc.perform(
+                        get("/api/v1/brands/leaderboard")
+                                .param("limit", "1")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.brands").value(2))
+                .andExpect(jsonPath("$.items[0].brand").value("D"))
+                .andExpect(jsonPath("$.items[0].total").value(36100));
+
+        verify(priceService).getBrandLeaderboard(0, 1);
+    }
+
+    @Test
+    void getBrandRank_whenIncomplete_returns404() throws Exception {
+        when(priceService.getBrandRank("Z"))
+                .thenThrow(new ApiException(ErrorCode.BRAND_NOT_FOUND,
+                        "모든 카테고리를 가진 브랜드가 아닙니다: Z"));
+
+        mockMvc.perform(
+                        get("/api/v1/brands/{name}/rank", "Z")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(ErrorCode.BRAND_NOT_FOUND.getCode()));
+
+        verify(priceService).getBrandRank("Z");
+    }
+
+    /* ------------------------------------------------------------------
+     *  /api/v1/price-events
+     * ------------------------------------------------------------------ */
+    @Test
+    void streamPriceEvents_startsAsyncSse() throws Exception {
+        when(priceEventService.subscribe()).thenReturn(new SseEmitter());
+
+        mockMvc.perform(
+                        get("/api/v1/price-events")
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                )
+                .andExpect(request().asyncStarted());
+
+        verify(priceEventService).subscribe();
+    }
 }
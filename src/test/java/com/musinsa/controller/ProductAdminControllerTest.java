@@ -5,8 +5,11 @@ import com.musinsa.common.ApiException;
 import com.musinsa.common.ErrorCode;
 import com.musinsa.common.GlobalExceptionHandler;
 import com.musinsa.domain.Product;
+import com.musinsa.dto.BulkImportResponse;
 import com.musinsa.dto.CreateProductRequest;
 import com.musinsa.dto.UpdateProductRequest;
+import com.musinsa.service.ProductExportService;
+import com.musinsa.service.ProductImportService;
 import com.musinsa.service.ProductService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,10 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.Mockito.*;
@@ -30,6 +35,12 @@ class ProductAdminControllerTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private ProductImportService importService;
+
+    @Mock
+    private ProductExportService exportService;
+
     @InjectMocks
     private ProductAdminController productAdminController;
 
@@ -136,6 +147,54 @@ class ProductAdminControllerTest {
         verify(productService).updateProduct(id, 12000);
     }
 
+    /* ------------------------------------------------------------------
+     *  PUT /api/v1/products/prices
+     * ------------------------------------------------------------------ */
+    @Test
+    void updatePrices_lastValueWinsPerId() throws Exception {
+        String json = """
+                {"items":[{"id":1,"price":12000},{"id":2,"price":5500},{"id":1,"price":13000}]}
+                """;
+
+        mockMvc.perform(
+                        put("/api/v1/products/prices")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json)
+                )
+                .andExpect(status().isNoContent());
+
+        verify(productService).updatePrices(Map.of(1L, 13000, 2L, 5500));
+    }
+
+    @Test
+    void updatePrices_missingItemsOrId_returns400() throws Exception {
+        for (String json : new String[]{"{}", "{\"items\":[{\"price\":1000}]}", "{\"items\":[null]}"}) {
+            mockMvc.perform(
+                            put("/api/v1/products/prices")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(json)
+                    )
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION_ERROR.getCode()));
+        }
+
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void updatePrices_missingPrice_returns400() throws Exception {
+        mockMvc.perform(
+                        put("/api/v1/products/prices")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"items\":[{\"id\":3}]}")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION_ERROR.getCode()))
+                .andExpect(jsonPath("$.message").value("상품 ID 3의 가격은 필수입니다."));
+
+        verifyNoInteractions(productService);
+    }
+
     /* ------------------------------------------------------------------
      *  DELETE /api/v1/products/{id}
      * ------------------------------------------------------------------ */
@@ -166,4 +225,66 @@ class ProductAdminControllerTest {
 
         verify(productService).deleteProduct(id);
     }
+
+    /* ------------------------------------------------------------------
+     *  POST /api/v1/products/bulk
+     * ------------------------------------------------------------------ */
+    @Test
+    void importProducts_csv_dispatchesCsvFormat() throws Exception {
+        when(importService.importProducts(any(), eq(ProductImportService.Format.CSV)))
+                .thenReturn(BulkImportResponse.builder().total(1).imported(1).errors(List.of()).build());
+
+        mockMvc.perform(
+                        post("/api/v1/products/bulk")
+                                .contentType("text/csv")
+                                .content("brand,category,price\nA,상의,1000\n")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+
+        verify(importService).importProducts(any(), eq(ProductImportService.Format.CSV));
+    }
+
+    @Test
+    void importProducts_contentTypeCaseInsensitive_dispatchesCsvFormat() throws Exception {
+        when(importService.importProducts(any(), eq(ProductImportService.Format.CSV)))
+                .thenReturn(BulkImportResponse.builder().total(0).errors(List.of()).build());
+
+        mockMvc.perform(
+                        post("/api/v1/products/bulk")
+                                .header(HttpHeaders.CONTENT_TYPE, "Text/CSV; charset=UTF-8")
+                                .content("A,상의,1000\n")
+                )
+                .andExpect(status().isOk());
+
+        verify(importService).importProducts(any(), eq(ProductImportService.Format.CSV));
+    }
+
+    @Test
+    void createProduct_missingPrice_returns400() throws Exception {
+        mockMvc.perform(
+                        post("/api/v1/products")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"brand\":\"A\",\"category\":\"상의\"}")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("가격은 필수입니다."));
+
+        verifyNoInteractions(productService);
+    }
+
+    /* ------------------------------------------------------------------
+     *  GET /api/v1/products/export
+     * ------------------------------------------------------------------ */
+    @Test
+    void exportProducts_unknownFormat_returns400() throws Exception {
+        mockMvc.perform(
+                        get("/api/v1/products/export").param("format", "cvs")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION_ERROR.getCode()))
+                .andExpect(jsonPath("$.message").value("지원하지 않는 format 값입니다: cvs"));
+
+        verifyNoInteractions(exportService);
+    }
 }
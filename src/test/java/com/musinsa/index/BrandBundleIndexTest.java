@@ -0,0 +1,104 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/index/BrandBundleIndexTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.index;
+
+import com.musinsa.domain.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BrandBundleIndexTest {
+
+    private BrandBundleIndex index;
+
+    private static List<PriceChange> fullBrand(String brand, int price) {
+        List<PriceChange> rows = new ArrayList<>();
+        for (Category c : Category.values()) {
+            rows.add(PriceChange.put(brand, c, price));
+        }
+        return rows;
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<PriceChange> rows = new ArrayList<>();
+        rows.addAll(fullBrand("A", 1000));
+        rows.addAll(fullBrand("B", 2000));
+        index = new BrandBundleIndex();
+        index.reset(rows);
+    }
+
+    @Test
+    void reset_picksLowestTotal() {
+        BrandBundleIndex.Bundle best = index.cheapest();
+
+        assertThat(best.brand()).isEqualTo("A");
+        assertThat(best.total()).isEqualTo(1000 * Category.values().length);
+        assertThat(best.prices()).hasSize(Category.values().length);
+    }
+
+    @Test
+    void apply_priceIncrease_changesWinner() {
+        index.apply(List.of(PriceChange.put("A", Category.TOP, 100_000)));
+
+        assertThat(index.cheapest().brand()).isEqualTo("B");
+    }
+
+    @Test
+    void apply_categoryRemoval_dropsBrandFromRanking() {
+        index.apply(List.of(PriceChange.remove("A", Category.HAT)));
+        assertThat(index.cheapest().brand()).isEqualTo("B");
+
+        index.apply(List.of(PriceChange.put("A", Category.HAT, 1000)));
+        assertThat(index.cheapest().brand()).isEqualTo("A");
+    }
+
+    @Test
+    void apply_noCompleteBrand_returnsNull() {
+        List<PriceChange> removals = new ArrayList<>();
+        for (String brand : List.of("A", "B")) {
+            removals.add(PriceChange.remove(brand, Category.TOP));
+        }
+        index.apply(removals);
+
+        assertThat(index.cheapest()).isNull();
+    }
+
+    @Test
+    void leaderboard_tiesShareRankAndPagingKeepsRank() {
+        List<PriceChange> rows = new ArrayList<>();
+        rows.addAll(fullBrand("C", 1000));
+        rows.addAll(fullBrand("D", 3000));
+        rows.add(PriceChange.put("E", Category.TOP, 1));   // 일부 카테고리만 → 순위 제외
+        index.apply(rows);
+
+        BrandBundleIndex.Leaderboard all = index.leaderboard(0, 10);
+        assertThat(all.brands()).isEqualTo(4);
+        assertThat(all.items()).extracting("rank", "brand").containsExactly(
+                tuple(1, "A"), tuple(1, "C"), tuple(3, "B"), tuple(4, "D"));
+
+        assertThat(index.leaderboard(1, 2).items()).extracting("rank", "brand")
+                .containsExactly(tuple(1, "C"), tuple(3, "B"));
+        assertThat(index.leaderboard(4, 10).items()).isEmpty();
+    }
+
+    @Test
+    void standing_followsPriceChanges() {
+        assertThat(index.standing("B").rank()).isEqualTo(2);
+
+        index.apply(List.of(PriceChange.put("B", Category.TOP, 1)));
+        BrandBundleIndex.Standing b = index.standing("B");
+        assertThat(b.rank()).isEqualTo(1);
+        assertThat(b.total()).isEqualTo(2000 * (Category.values().length - 1) + 1);
+        assertThat(index.standing("A").rank()).isEqualTo(2);
+
+        index.apply(List.of(PriceChange.remove("B", Category.HAT)));
+        assertThat(index.standing("B")).isNull();
+        assertThat(index.standing("NONE")).isNull();
+    }
+}
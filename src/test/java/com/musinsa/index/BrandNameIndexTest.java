@@ -0,0 +1,66 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/index/BrandNameIndexTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BrandNameIndexTest {
+
+    private BrandNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BrandNameIndex();
+        index.reset(List.of("NIKE", "Nice", "nano", "ADIDAS", "A", "무신사", "무신사 스탠다드"));
+    }
+
+    @Test
+    void suggest_isCaseInsensitiveAndSorted() {
+        assertThat(index.suggest("ni", 10)).containsExactly("Nice", "NIKE");
+        assertThat(index.suggest("N", 10)).containsExactly("nano", "Nice", "NIKE");
+    }
+
+    @Test
+    void suggest_respectsLimit() {
+        assertThat(index.suggest("n", 2)).containsExactly("nano", "Nice");
+        assertThat(index.suggest("", 3)).hasSize(3);
+    }
+
+    @Test
+    void suggest_noMatch_returnsEmpty() {
+        assertThat(index.suggest("zz", 10)).isEmpty();
+        assertThat(index.suggest("NIKEE", 10)).isEmpty();
+    }
+
+    @Test
+    void suggest_handlesNonAsciiPrefix() {
+        assertThat(index.suggest("무신", 10)).containsExactly("무신사", "무신사 스탠다드");
+    }
+
+    @Test
+    void createdAndDeletedBrands_areReflected() {
+        index.onBrandSetChanged(BrandSetChangedEvent.created("Nizza"));
+        index.onBrandSetChanged(BrandSetChangedEvent.deleted("NIKE"));
+
+        assertThat(index.suggest("ni", 10)).containsExactly("Nice", "Nizza");
+        assertThat(index.size()).isEqualTo(7);
+    }
+
+    @Test
+    void suggest_largeIndex_readsOnlyPrefixRange() {
+        List<String> many = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            many.add(String.format("B%06d", i));
+        }
+        index.reset(many);
+
+        assertThat(index.suggest("b12345", 5)).containsExactly("B123450", "B123451", "B123452", "B123453", "B123454");
+    }
+}
@@ -0,0 +1,129 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/index/CategoryPriceIndexTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.index;
+
+import com.musinsa.domain.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CategoryPriceIndexTest {
+
+    private CategoryPriceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CategoryPriceIndex();
+        index.reset(List.of(
+                PriceChange.put("A", Category.TOP, 1000),
+                PriceChange.put("B", Category.TOP, 2000),
+                PriceChange.put("C", Category.TOP, 1000)
+        ));
+    }
+
+    @Test
+    void reset_buildsMinMaxWithTies() {
+        CategoryPriceIndex.Extremes ex = index.extremes(Category.TOP);
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(ex.minPrice()).isEqualTo(1000);
+        assertThat(ex.minBrands()).containsExactly("A", "C");
+        assertThat(ex.maxPrice()).isEqualTo(2000);
+        assertThat(ex.maxBrands()).containsExactly("B");
+        assertThat(index.extremes(Category.HAT)).isNull();
+    }
+
+    @Test
+    void apply_priceUpdate_movesBrandBetweenTieGroups() {
+        index.apply(List.of(PriceChange.put("A", Category.TOP, 2000)));
+
+        CategoryPriceIndex.Extremes ex = index.extremes(Category.TOP);
+        assertThat(ex.minBrands()).containsExactly("C");
+        assertThat(ex.maxBrands()).containsExactly("A", "B");
+    }
+
+    @Test
+    void apply_removal_dropsEmptyCategory() {
+        index.apply(List.of(
+                PriceChange.remove("A", Category.TOP),
+                PriceChange.remove("B", Category.TOP),
+                PriceChange.remove("C", Category.TOP)
+        ));
+
+        assertThat(index.extremes(Category.TOP)).isNull();
+    }
+
+    @Test
+    void apply_unknownRemoval_isNoop() {
+        index.apply(List.of(PriceChange.remove("Z", Category.TOP)));
+
+        assertThat(index.extremes(Category.TOP).minBrands()).containsExactly("A", "C");
+    }
+
+    @Test
+    void ranking_tiesShareRankAndPagingKeepsRank() {
+        index.apply(List.of(PriceChange.put("D", Category.TOP, 3000)));
+
+        CategoryPriceIndex.Ranking all = index.ranking(Category.TOP, 0, 10);
+        assertThat(all.total()).isEqualTo(4);
+        assertThat(all.items()).extracting("rank", "brand", "price").containsExactly(
+                tuple(1, "A", 1000), tuple(1, "C", 1000), tuple(3, "B", 2000), tuple(4, "D", 3000));
+
+        // 동률 구간 중간에서 시작해도 순위는 전체 기준
+        assertThat(index.ranking(Category.TOP, 1, 2).items()).extracting("rank", "brand")
+                .containsExactly(tuple(1, "C"), tuple(3, "B"));
+        assertThat(index.ranking(Category.TOP, 10, 5).items()).isEmpty();
+    }
+
+    @Test
+    void ranking_followsPriceChangesAndRemovals() {
+        index.apply(List.of(
+                PriceChange.put("B", Category.TOP, 500),
+                PriceChange.remove("A", Category.TOP)
+        ));
+
+        assertThat(index.ranking(Category.TOP, 0, 10).items()).extracting("brand")
+                .containsExactly("B", "C");
+        assertThat(index.ranking(Category.HAT, 0, 10).total()).isZero();
+    }
+
+    @Test
+    void distribution_nearestRankQuantilesFollowChanges() {
+        List<PriceChange> rows = new ArrayList<>();
+        for (int price = 1; price <= 100; price++) {
+            rows.add(PriceChange.put("B" + price, Category.HAT, price));
+        }
+        index.apply(rows);
+
+        CategoryPriceIndex.Distribution d = index.distribution(Category.HAT);
+        assertThat(d.count()).isEqualTo(100);
+        assertThat(d.mean()).isEqualTo(50.5);
+        assertThat(List.of(d.p50(), d.p90(), d.p99())).containsExactly(50, 90, 99);
+
+        index.apply(List.of(
+                PriceChange.remove("B100", Category.HAT),
+                PriceChange.remove("B99", Category.HAT)
+        ));
+
+        d = index.distribution(Category.HAT);
+        assertThat(d.count()).isEqualTo(98);
+        assertThat(d.mean()).isEqualTo(4851 / 98.0);
+        assertThat(List.of(d.p50(), d.p90(), d.p99())).containsExactly(49, 89, 98);
+        assertThat(index.distribution(Category.SOCKS)).isNull();
+    }
+
+    @Test
+    void distribution_priceUpdateAdjustsSum() {
+        index.apply(List.of(PriceChange.put("B", Category.TOP, 4000)));
+
+        CategoryPriceIndex.Distribution d = index.distribution(Category.TOP);
+        assertThat(d.count()).isEqualTo(3);
+        assertThat(d.mean()).isEqualTo(2000.0);
+        assertThat(d.p99()).isEqualTo(4000);
+    }
+}
@@ -0,0 +1,67 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/index/OrderStatisticTreeTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderStatisticTreeTest {
+
+    @Test
+    void rankSelectRange_basic() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        for (int v : new int[]{50, 10, 40, 20, 30}) {
+            assertThat(tree.add(v)).isTrue();
+        }
+        assertThat(tree.add(30)).isFalse();
+
+        assertThat(tree.size()).isEqualTo(5);
+        assertThat(tree.select(0)).isEqualTo(10);
+        assertThat(tree.select(4)).isEqualTo(50);
+        assertThat(tree.rank(30)).isEqualTo(2);
+        assertThat(tree.rank(35)).isEqualTo(3);
+        assertThat(tree.range(1, 3)).containsExactly(20, 30, 40);
+        assertThat(tree.range(3, 10)).containsExactly(40, 50);
+        assertThat(tree.range(5, 10)).isEmpty();
+        assertThatThrownBy(() -> tree.select(5)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void randomOperations_matchTreeSet() {
+        Random random = new Random(42);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int v = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(tree.remove(v)).isEqualTo(expected.remove(v));
+            } else {
+                assertThat(tree.add(v)).isEqualTo(expected.add(v));
+            }
+
+            if (step % 500 == 0) {
+                List<Integer> all = new ArrayList<>(expected);
+                assertThat(tree.size()).isEqualTo(all.size());
+                assertThat(tree.range(0, all.size())).isEqualTo(all);
+                if (!all.isEmpty()) {
+                    int i = random.nextInt(all.size());
+                    assertThat(tree.select(i)).isEqualTo(all.get(i));
+                    assertThat(tree.rank(all.get(i))).isEqualTo(i);
+                    assertThat(tree.range(i, 7)).isEqualTo(all.subList(i, Math.min(i + 7, all.size())));
+                }
+                assertThat(tree.rank(v)).isEqualTo(expected.headSet(v).size());
+                assertThat(tree.contains(v)).isEqualTo(expected.contains(v));
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/index/PriceIndexLoaderTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.index;
+
+import com.musinsa.common.BrandListCache;
+import com.musinsa.common.JsonResponseCache;
+import com.musinsa.domain.Category;
+import com.musinsa.outbox.PriceOutboxRelay;
+import com.musinsa.repository.BrandRepository;
+import com.musinsa.repository.ProductRepository;
+import com.musinsa.service.BrandIdCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PriceIndexLoaderTest {
+
+    @Test
+    void reload_waitsForInFlightRelayBatch() throws Exception {
+        ProductRepository productRepo = mock(ProductRepository.class);
+        BrandRepository brandRepo = mock(BrandRepository.class);
+        when(productRepo.findAllPriceRows()).thenReturn(List.of(PriceChange.put("A", Category.TOP, 1000)));
+        when(brandRepo.findAllNames()).thenReturn(List.of("A"));
+
+        PriceOutboxRelay relay = new PriceOutboxRelay(mock(JdbcTemplate.class), mock(TransactionTemplate.class),
+                productRepo, mock(ApplicationEventPublisher.class));
+        CategoryPriceIndex categoryIndex = new CategoryPriceIndex();
+        PriceIndexLoader loader = new PriceIndexLoader(productRepo, brandRepo, categoryIndex,
+                new BrandBundleIndex(), new BrandNameIndex(), mock(JsonResponseCache.class),
+                mock(BrandListCache.class), mock(BrandIdCache.class), relay);
+
+        CountDownLatch batchStarted = new CountDownLatch(1);
+        CountDownLatch releaseBatch = new CountDownLatch(1);
+        CompletableFuture<Void> batch = CompletableFuture.runAsync(() -> relay.runExclusively(() -> {
+            batchStarted.countDown();
+            try {
+                releaseBatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(batchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> reload = CompletableFuture.runAsync(loader::reload);
+        Thread.sleep(100);
+        verify(productRepo, never()).findAllPriceRows();   // 배치가 끝날 때까지 스냅샷을 읽지 않는다
+
+        releaseBatch.countDown();
+        batch.get(5, TimeUnit.SECONDS);
+        reload.get(5, TimeUnit.SECONDS);
+
+        assertThat(categoryIndex.isLoaded()).isTrue();
+        assertThat(categoryIndex.extremes(Category.TOP).minBrands()).containsExactly("A");
+    }
+}
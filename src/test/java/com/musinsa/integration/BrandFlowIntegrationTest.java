@@ -0,0 +1,115 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/integration/BrandFlowIntegrationTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.integration;
+
+import com.musinsa.controller.BrandAdminController;
+import com.musinsa.domain.Category;
+import com.musinsa.domain.Product;
+import com.musinsa.metrics.QueryBudget;
+import com.musinsa.metrics.SqlStatementCounter;
+import com.musinsa.repository.BrandRepository;
+import com.musinsa.repository.ProductRepository;
+import com.musinsa.service.BrandIdCache;
+import com.musinsa.service.BrandService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 브랜드 등록 → diff 수정 → 삭제 (테스트 프로파일은 @QueryBudget 초과 시 요청 실패)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BrandFlowIntegrationTest {
+
+    @LocalServerPort int port;
+    @Autowired TestRestTemplate rest;
+    @Autowired BrandRepository brandRepo;
+    @Autowired ProductRepository productRepo;
+    @Autowired BrandService brandService;
+    @Autowired BrandIdCache brandIds;
+
+    String url(String p) { return "http://localhost:" + port + p; }
+
+    private ResponseEntity<Void> put(String path, Object body) {
+        HttpHeaders h = new HttpHeaders();
+        h.setContentType(MediaType.APPLICATION_JSON);
+        return rest.exchange(url(path), HttpMethod.PUT, new HttpEntity<>(body, h), Void.class);
+    }
+
+    private Map<Category, Integer> prices(String brand) {
+        Long id = brandRepo.findByName(brand).orElseThrow().getId();
+        return productRepo.findByBrandId(id).stream()
+                .collect(Collectors.toMap(Product::getCategory, Product::getPrice));
+    }
+
+    @DisplayName("브랜드 수정 – 바뀐 카테고리만 UPDATE/INSERT/DELETE, SQL 예산 이내")
+    @Test
+    void updateBrandAppliesDiff() {
+        ResponseEntity<Void> created = rest.postForEntity(url("/api/v1/brands"),
+                Map.of("brand", "DIFF", "prices", Map.of("상의", 1000, "바지", 2000)), Void.class);
+        assertThat(created.getStatusCode().is2xxSuccessful()).isTrue();
+
+        // 상의 그대로, 바지 가격 변경, 모자 신규
+        assertThat(put("/api/v1/brands/DIFF",
+                Map.of("prices", Map.of("상의", 1000, "바지", 2500, "모자", 300))).getStatusCode())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(prices("DIFF")).containsExactlyInAnyOrderEntriesOf(Map.of(
+                Category.TOP, 1000, Category.BOTTOM, 2500, Category.HAT, 300));
+
+        // 모자만 남기고 나머지 삭제
+        assertThat(put("/api/v1/brands/DIFF",
+                Map.of("prices", Map.of("모자", 300))).getStatusCode())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(prices("DIFF")).containsExactlyEntriesOf(Map.of(Category.HAT, 300));
+
+        rest.delete(url("/api/v1/brands/DIFF"));
+        assertThat(brandRepo.findByName("DIFF")).isEmpty();
+    }
+
+    @DisplayName("브랜드 수정 최악 경우(캐시 미스 + UPDATE·DELETE·INSERT 모두) SQL 수가 예산보다 작다")
+    @Test
+    void updateBrandWorstCaseStaysUnderBudget() {
+        rest.postForEntity(url("/api/v1/brands"),
+                Map.of("brand", "WORST", "prices", Map.of("상의", 1000, "바지", 2000)), Void.class);
+        brandIds.clear();   // 이름 조회부터 시작
+
+        // 상의 가격 변경, 바지 삭제, 나머지 카테고리 전부 신규
+        Map<String, Integer> prices = new HashMap<>();
+        for (Category c : Category.values()) {
+            if (c != Category.BOTTOM) {
+                prices.put(c.getKrName(), c == Category.TOP ? 1500 : 100);
+            }
+        }
+
+        SqlStatementCounter.begin();
+        int statements;
+        try {
+            brandService.updateBrand("WORST", prices);
+        } finally {
+            statements = SqlStatementCounter.end();
+        }
+
+        // findByName 1 + 상품 조회 1 + UPDATE 배치 1 + DELETE 1 + 상품 INSERT 배치 1 + outbox INSERT 배치 1
+        // + 시퀀스 조회(상품·outbox 각각 0~2회, 블록 경계를 넘으면 2회) = 최대 10
+        assertThat(statements).isLessThanOrEqualTo(10);
+        int budget = Arrays.stream(BrandAdminController.class.getDeclaredMethods())
+                .filter(m -> m.getName().equals("updateBrand"))
+                .findFirst().orElseThrow()
+                .getAnnotation(QueryBudget.class).value();
+        assertThat(budget).isGreaterThan(10);
+
+        brandService.deleteBrand("WORST");
+    }
+}
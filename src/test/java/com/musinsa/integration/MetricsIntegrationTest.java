@@ -0,0 +1,43 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/integration/MetricsIntegrationTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+class MetricsIntegrationTest {
+
+    @LocalServerPort int port;
+    @Autowired TestRestTemplate rest;
+
+    String url(String p) { return "http://localhost:" + port + p; }
+
+    @DisplayName("가격 조회 후 Prometheus 엔드포인트에 타이머·캐시·SQL 횟수 지표가 노출된다")
+    @Test
+    void prometheusExposesPriceMetrics() {
+        rest.getForEntity(url("/api/v1/categories/cheapest-brands"), String.class);
+        rest.getForEntity(url("/api/v1/categories/cheapest-brands"), String.class);
+        rest.getForEntity(url("/api/v1/products"), String.class);
+
+        ResponseEntity<String> res = rest.getForEntity(url("/actuator/prometheus"), String.class);
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(res.getBody())
+                .contains("price_query_seconds_count{")
+                .contains("price_response_cache_total{name=\"lowest-by-category\",result=\"hit\"}")
+                .contains("http_server_requests_sql_statements_count{")
+                .contains("spring_data_repository_invocations_seconds_count{");
+    }
+}
@@ -10,6 +10,7 @@ import com.musinsa.domain.Category;
 import com.musinsa.domain.Brand;
 import com.musinsa.domain.Product;
 import com.musinsa.dto.LowestByCategoryResponse;
+import com.musinsa.index.PriceIndexLoader;
 import com.musinsa.repository.BrandRepository;
 import com.musinsa.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +35,7 @@ class PriceFlowIntegrationTest {
     @Autowired BrandRepository brandRepo;
     @Autowired ProductRepository productRepo;
     @Autowired ObjectMapper om;
+    @Autowired PriceIndexLoader indexLoader;
 
     @BeforeEach
     void initData() {
@@ -54,6 +56,9 @@ class PriceFlowIntegrationTest {
                 Category.ACCESSORY, 1900
         );
         priceX.forEach((c,p) -> productRepo.save(new Product(x, c, p)));
+
+        // 3) 리포지토리로 직접 넣은 데이터이므로 가격 인덱스 재적재
+        indexLoader.reload();
     }
 
     private String url(String path) {
@@ -110,6 +115,7 @@ class PriceFlowIntegrationTest {
     void priceStats_validCategoryNoData_returnsNotFound() {
         // 1) 특정 카테고리 상품만 삭제
         productRepo.deleteAll();  // 모든 상품 제거
+        indexLoader.reload();
 
         ResponseEntity<Map> res = rest.getForEntity(
                 url("/api/v1/categories/" + Category.TOP.getKrName() + "/price-stats"),
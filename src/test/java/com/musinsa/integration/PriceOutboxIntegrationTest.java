@@ -0,0 +1,77 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/integration/PriceOutboxIntegrationTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.integration;
+
+import com.musinsa.domain.Category;
+import com.musinsa.index.CategoryPriceIndex;
+import com.musinsa.outbox.PriceOutboxRelay;
+import com.musinsa.repository.PriceOutboxRepository;
+import com.musinsa.service.BrandService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 쓰기 트랜잭션 → outbox 기록 → 릴레이 → 인덱스 반영
+ * (스케줄 릴레이는 사실상 멈춰 두고 drain() 을 직접 호출)
+ */
+@SpringBootTest(properties = "musinsa.outbox.poll-interval-ms=3600000")
+class PriceOutboxIntegrationTest {
+
+    @Autowired BrandService brandService;
+    @Autowired PriceOutboxRepository outboxRepo;
+    @Autowired PriceOutboxRelay relay;
+    @Autowired CategoryPriceIndex categoryIndex;
+    @Autowired TransactionTemplate tx;
+
+    @BeforeEach
+    void setup() {
+        relay.drain();
+        brandService.createBrand("OUTBOX", Map.of(Category.TOP.getKrName(), 1));
+        relay.drain();
+    }
+
+    @AfterEach
+    void cleanup() {
+        brandService.deleteBrand("OUTBOX");
+        relay.drain();
+    }
+
+    @DisplayName("커밋된 변경은 outbox 에 남고, 릴레이 후 인덱스에 반영된 뒤 비워진다")
+    @Test
+    void committedChange_isRelayedToIndex() {
+        assertThat(categoryIndex.extremes(Category.TOP).minBrands()).containsExactly("OUTBOX");
+
+        brandService.updateBrand("OUTBOX", Map.of(Category.TOP.getKrName(), 999_999_999));
+
+        assertThat(outboxRepo.count()).isPositive();
+        assertThat(categoryIndex.extremes(Category.TOP).minBrands()).contains("OUTBOX");   // 아직 미전달
+
+        assertThat(relay.drain()).isPositive();
+
+        assertThat(outboxRepo.count()).isZero();
+        assertThat(categoryIndex.extremes(Category.TOP).minBrands()).doesNotContain("OUTBOX");
+    }
+
+    @DisplayName("롤백된 트랜잭션은 outbox 행을 남기지 않는다")
+    @Test
+    void rolledBackChange_leavesNoOutboxRow() {
+        tx.executeWithoutResult(status -> {
+            brandService.updateBrand("OUTBOX", Map.of(Category.TOP.getKrName(), 7));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxRepo.count()).isZero();
+        assertThat(relay.drain()).isZero();
+        assertThat(categoryIndex.extremes(Category.TOP).minPrice()).isEqualTo(1);
+    }
+}
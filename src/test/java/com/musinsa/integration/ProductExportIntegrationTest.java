@@ -0,0 +1,57 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/integration/ProductExportIntegrationTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductExportIntegrationTest {
+
+    @LocalServerPort int port;
+    @Autowired TestRestTemplate rest;
+    @Autowired ProductRepository productRepo;
+    @Autowired ObjectMapper om;
+
+    String url(String p) { return "http://localhost:" + port + p; }
+
+    @DisplayName("NDJSON 내보내기 – 상품 수만큼 id 오름차순 한 줄씩")
+    @Test
+    void exportNdjson() throws Exception {
+        ResponseEntity<String> res = rest.getForEntity(url("/api/v1/products/export"), String.class);
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(res.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("products.ndjson");
+        String[] lines = res.getBody().split("\n");
+        assertThat(lines).hasSize((int) productRepo.count());
+
+        JsonNode first = om.readTree(lines[0]);
+        JsonNode second = om.readTree(lines[1]);
+        assertThat(first.get("id").asLong()).isLessThan(second.get("id").asLong());
+        assertThat(first.has("brand") && first.has("category") && first.has("price")).isTrue();
+    }
+
+    @DisplayName("CSV 내보내기 – 헤더 + 상품 수만큼 행")
+    @Test
+    void exportCsv() {
+        ResponseEntity<String> res = rest.getForEntity(url("/api/v1/products/export?format=csv"), String.class);
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String[] lines = res.getBody().split("\n");
+        assertThat(lines[0]).isEqualTo("id,brand,category,price");
+        assertThat(lines).hasSize((int) productRepo.count() + 1);
+    }
+}
@@ -5,6 +5,8 @@ package com.musinsa.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musinsa.domain.Brand;
+import com.musinsa.domain.Category;
+import com.musinsa.domain.Product;
 import com.musinsa.repository.BrandRepository;
 import com.musinsa.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +18,7 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
@@ -44,8 +47,10 @@ class ProductFlowIntegrationTest {
 
     @BeforeEach
     void setup() {
-        // 테스트용 브랜드 삽입
-        brandRepo.save(new Brand("FOO"));
+        // 테스트용 브랜드 삽입 (컨텍스트를 공유하는 다른 테스트가 이미 넣었으면 건너뜀)
+        if (!brandRepo.existsByName("FOO")) {
+            brandRepo.save(new Brand("FOO"));
+        }
     }
 
     @DisplayName("상품 CRUD – 생성 → 가격 변경 → 삭제까지 전체 플로우")
@@ -83,4 +88,31 @@ class ProductFlowIntegrationTest {
         boolean exists = productRepo.existsById(productId);
         assertThat(exists).isFalse();
     }
+
+    @DisplayName("가격 일괄 수정 – 전체 상품을 한 요청으로, strict SQL 예산 안에서 반영 후 원복")
+    @Test
+    void bulkPriceUpdate_allProductsWithinBudget() {
+        if (productRepo.count() == 0) {   // 다른 통합 테스트가 카탈로그를 비운 경우
+            productRepo.save(new Product(brandRepo.findByName("FOO").orElseThrow(), Category.SOCKS, 1000));
+        }
+        List<Product> products = productRepo.findAll();
+
+        ResponseEntity<Void> bumped = putPrices(products, 1);
+        assertThat(bumped.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        Product first = products.get(0);
+        assertThat(productRepo.findById(first.getId())).get()
+                .extracting(Product::getPrice).isEqualTo(first.getPrice() + 1);
+
+        assertThat(putPrices(products, 0).getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    private ResponseEntity<Void> putPrices(List<Product> products, int delta) {
+        List<Map<String, Object>> items = products.stream()
+                .map(p -> Map.<String, Object>of("id", p.getId(), "price", p.getPrice() + delta))
+                .toList();
+        HttpHeaders h = new HttpHeaders();
+        h.setContentType(MediaType.APPLICATION_JSON);
+        return rest.exchange(url("/api/v1/products/prices"), HttpMethod.PUT,
+                new HttpEntity<>(Map.of("items", items), h), Void.class);
+    }
 }
@@ -0,0 +1,181 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/integration/ProductImportIntegrationTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.integration;
+
+import com.musinsa.domain.Brand;
+import com.musinsa.domain.Category;
+import com.musinsa.outbox.PriceOutboxRelay;
+import com.musinsa.repository.BrandRepository;
+import com.musinsa.repository.ProductRepository;
+import com.musinsa.service.BrandService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductImportIntegrationTest {
+
+    @LocalServerPort int port;
+    @Autowired TestRestTemplate rest;
+    @Autowired BrandRepository brandRepo;
+    @Autowired ProductRepository productRepo;
+    @Autowired BrandService brandService;
+    @Autowired PriceOutboxRelay relay;
+
+    String url(String p) { return "http://localhost:" + port + p; }
+
+    @BeforeEach
+    void setup() {
+        brandRepo.save(new Brand("BULK"));
+    }
+
+    @AfterEach
+    void cleanup() {
+        // 서비스 경로로 삭제해야 가격 인덱스도 함께 정리됨
+        brandService.deleteBrand("BULK");
+        relay.drain();
+    }
+
+    private ResponseEntity<Map> post(String body, MediaType type) {
+        HttpHeaders h = new HttpHeaders();
+        h.setContentType(type);
+        return rest.postForEntity(url("/api/v1/products/bulk"), new HttpEntity<>(body, h), Map.class);
+    }
+
+    @DisplayName("NDJSON 대량 등록 – 정상 행만 적재, 실패 행은 줄 번호로 보고")
+    @Test
+    void ndjsonImport_reportsRowErrors() {
+        String body = String.join("\n",
+                "{\"brand\":\"BULK\",\"category\":\"상의\",\"price\":1}",
+                "{\"brand\":\"BULK\",\"category\":\"없음\",\"price\":1}",
+                "{\"brand\":\"NOPE\",\"category\":\"상의\",\"price\":1}",
+                "{\"brand\":\"BULK\",\"category\":\"상의\",\"price\":2}",
+                "not json",
+                "{\"brand\":\"BULK\",\"category\":\"모자\",\"price\":1}");
+
+        ResponseEntity<Map> res = post(body, MediaType.APPLICATION_NDJSON);
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(res.getBody())
+                .containsEntry("total", 6)
+                .containsEntry("imported", 2)
+                .containsEntry("failed", 4);
+        assertThat((List<Map<String, Object>>) res.getBody().get("errors"))
+                .extracting(e -> e.get("line"))
+                .containsExactlyInAnyOrder(2, 3, 4, 5);
+
+        Long brandId = brandRepo.findByName("BULK").orElseThrow().getId();
+        assertThat(productRepo.findByBrandId(brandId)).hasSize(2);
+
+        // 청크 커밋 후 outbox 릴레이가 인덱스를 갱신하면 최저가에 반영
+        relay.drain();
+        ResponseEntity<Map> stat = rest.getForEntity(
+                url("/api/v1/categories/" + Category.TOP.getKrName() + "/price-stats"), Map.class);
+        assertThat((List<Map<String, Object>>) stat.getBody().get("lowest"))
+                .extracting(e -> e.get("brand"))
+                .containsExactly("BULK");
+    }
+
+    @DisplayName("CSV 대량 등록 – 헤더 행은 건너뜀")
+    @Test
+    void csvImport_skipsHeader() {
+        String body = "brand,category,price\nBULK,바지,1000\nBULK,가방,abc\n";
+
+        ResponseEntity<Map> res = post(body, MediaType.parseMediaType("text/csv"));
+
+        assertThat(res.getBody())
+                .containsEntry("total", 2)
+                .containsEntry("imported", 1)
+                .containsEntry("failed", 1);
+    }
+
+    @DisplayName("CSV 왕복 – 내보낸 CSV(id 컬럼, 따옴표 필드)를 그대로 다시 등록")
+    @Test
+    void csvExportThenImport_roundTrip() {
+        String quoted = "BULK, \"Q\"";
+        brandRepo.save(new Brand(quoted));
+        try {
+            ResponseEntity<Map> first = post(
+                    "brand,category,price\n\"BULK, \"\"Q\"\"\",상의,1000\n", MediaType.parseMediaType("text/csv"));
+            assertThat(first.getBody()).containsEntry("imported", 1);
+
+            String csv = rest.getForObject(url("/api/v1/products/export?format=csv"), String.class);
+            String[] lines = csv.split("\n");
+            List<String> exported = Arrays.stream(lines)
+                    .filter(l -> l.contains("\"BULK, \"\"Q\"\"\""))
+                    .toList();
+            assertThat(exported).hasSize(1);
+
+            // 브랜드를 비우고 내보내기 헤더 + 행을 그대로 다시 등록
+            brandService.deleteBrand(quoted);
+            relay.drain();
+            Long brandId = brandRepo.save(new Brand(quoted)).getId();
+
+            ResponseEntity<Map> again = post(lines[0] + "\n" + exported.get(0) + "\n",
+                    MediaType.parseMediaType("text/csv"));
+
+            assertThat(again.getBody())
+                    .containsEntry("total", 1)
+                    .containsEntry("imported", 1)
+                    .containsEntry("failed", 0);
+            assertThat(productRepo.findByBrandId(brandId))
+                    .singleElement()
+                    .satisfies(p -> {
+                        assertThat(p.getCategory()).isEqualTo(Category.TOP);
+                        assertThat(p.getPrice()).isEqualTo(1000);
+                    });
+        } finally {
+            brandService.deleteBrand(quoted);
+        }
+    }
+
+    @DisplayName("CSV 대량 등록 – 따옴표 안의 쉼표·개행은 값의 일부, 닫히지 않은 따옴표는 실패")
+    @Test
+    void csvImport_quotedFields() {
+        String body = "\"BULK\",\"상의\",\"1000\"\n\"BU\nLK\",바지,1\nBULK,\"가방,1\n";
+
+        ResponseEntity<Map> res = post(body, MediaType.parseMediaType("text/csv"));
+
+        assertThat(res.getBody())
+                .containsEntry("total", 3)
+                .containsEntry("imported", 1)
+                .containsEntry("failed", 2);
+        assertThat((List<Map<String, Object>>) res.getBody().get("errors"))
+                .extracting(e -> e.get("line"))
+                .containsExactly(2, 4);
+    }
+
+    @DisplayName("대량 등록 – 가격이 없거나 0 이하인 행은 줄 번호로 실패 보고")
+    @Test
+    void import_rejectsMissingOrNonPositivePrice() {
+        String ndjson = String.join("\n",
+                "{\"brand\":\"BULK\",\"category\":\"상의\"}",
+                "{\"brand\":\"BULK\",\"category\":\"바지\",\"price\":0}",
+                "{\"brand\":\"BULK\",\"category\":\"모자\",\"price\":1}");
+        ResponseEntity<Map> res = post(ndjson, MediaType.APPLICATION_NDJSON);
+
+        assertThat(res.getBody())
+                .containsEntry("total", 3)
+                .containsEntry("imported", 1)
+                .containsEntry("failed", 2);
+        assertThat((List<Map<String, Object>>) res.getBody().get("errors"))
+                .extracting(e -> e.get("line"), e -> e.get("message"))
+                .containsExactly(tuple(1, "가격은 필수입니다."), tuple(2, "가격은 0보다 커야 합니다."));
+
+        ResponseEntity<Map> csv = post("BULK,가방,-5\n", MediaType.parseMediaType("text/csv"));
+        assertThat(csv.getBody()).containsEntry("imported", 0).containsEntry("failed", 1);
+    }
+}
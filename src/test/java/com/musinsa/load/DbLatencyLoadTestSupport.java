@@ -0,0 +1,158 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/load/DbLatencyLoadTestSupport.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.load;
+
+import com.musinsa.domain.Product;
+import com.musinsa.repository.ProductRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DB 지연 주입 부하 테스트 공통부 (./gradlew loadTest)
+ * - 모든 SQL 에 20ms 지연, 커넥션 풀 400, Tomcat 플랫폼 스레드 200 (기본값)
+ * - 동시 클라이언트 1000 개가 GET /api/v1/products/{id} (SQL 2회) 를 반복 호출
+ * - 플랫폼 스레드 모드는 요청 스레드 200 개, 가상 스레드 모드는 커넥션 풀이 동시성 상한
+ */
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "spring.datasource.hikari.maximum-pool-size=400",
+                "server.tomcat.threads.max=200",
+                "musinsa.outbox.poll-interval-ms=3600000",
+                "musinsa.load.db-latency-ms=20"
+        })
+@Import(DbLatencyLoadTestSupport.LatencyInjection.class)
+abstract class DbLatencyLoadTestSupport {
+
+    private static final int CLIENTS = 1000;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(15);
+
+    @LocalServerPort int port;
+    @Autowired ProductRepository productRepo;
+
+    @TestConfiguration
+    static class LatencyInjection {
+        @Bean
+        static BeanPostProcessor latencyInjectingDataSource(
+                @Value("${musinsa.load.db-latency-ms}") long latencyMs) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String name) {
+                    return bean instanceof DataSource ds && !(bean instanceof LatencyInjectingDataSource)
+                            ? new LatencyInjectingDataSource(ds, latencyMs)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    /** 결과 출력용 이름 */
+    abstract String mode();
+
+    @Test
+    void productLookupUnderDbLatency() throws Exception {
+        List<URI> uris = productRepo.findAll().stream()
+                .map(Product::getId)
+                .map(id -> URI.create("http://localhost:" + port + "/api/v1/products/" + id))
+                .toList();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(32))
+                .build();
+
+        run(client, uris, WARMUP);
+        Result r = run(client, uris, MEASURE);
+
+        System.out.printf("[load] %-8s clients=%d  throughput=%.0f req/s  p50=%.1f ms  p99=%.1f ms  errors=%d%n",
+                mode(), CLIENTS, r.throughput(), r.percentileMs(0.50), r.percentileMs(0.99), r.errors());
+        assertThat(r.errors()).isZero();
+    }
+
+    private record Result(long[] latenciesNanos, Duration elapsed, long errors) {
+        double throughput() {
+            return latenciesNanos.length / (elapsed.toNanos() / 1e9);
+        }
+
+        double percentileMs(double p) {
+            if (latenciesNanos.length == 0) {
+                return Double.NaN;
+            }
+            int idx = (int) Math.ceil(p * latenciesNanos.length) - 1;
+            return latenciesNanos[Math.max(idx, 0)] / 1e6;
+        }
+    }
+
+    private Result run(HttpClient client, List<URI> uris, Duration duration) throws Exception {
+        AtomicLong errors = new AtomicLong();
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<long[]>> futures = new ArrayList<>(CLIENTS);
+        for (int w = 0; w < CLIENTS; w++) {
+            int offset = w;
+            futures.add(workers.submit(() -> {
+                long[] buf = new long[1024];
+                int n = 0;
+                for (int i = offset; System.nanoTime() < deadline; i++) {
+                    HttpRequest req = HttpRequest.newBuilder(uris.get(i % uris.size())).GET().build();
+                    long t0 = System.nanoTime();
+                    try {
+                        HttpResponse<Void> res = client.send(req, HttpResponse.BodyHandlers.discarding());
+                        if (res.statusCode() != 200) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                        continue;
+                    }
+                    if (n == buf.length) {
+                        buf = Arrays.copyOf(buf, n * 2);
+                    }
+                    buf[n++] = System.nanoTime() - t0;
+                }
+                return Arrays.copyOf(buf, n);
+            }));
+        }
+
+        List<long[]> parts = new ArrayList<>(CLIENTS);
+        for (Future<long[]> f : futures) {
+            parts.add(f.get());
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        workers.shutdown();
+
+        long[] all = parts.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, elapsed, errors.get());
+    }
+}
@@ -0,0 +1,77 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/load/LatencyInjectingDataSource.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.load;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 모든 SQL 실행 앞에 고정 지연을 넣는 DataSource 래퍼
+ * - 커넥션을 쥔 채 대기하므로 원격 DB 왕복(네트워크 I/O 대기)을 흉내낸다.
+ */
+class LatencyInjectingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeBatch",
+            "executeLargeUpdate", "executeLargeBatch");
+
+    private final long latencyMs;
+
+    LatencyInjectingDataSource(DataSource target, long latencyMs) {
+        super(target);
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection target) {
+        return proxy(Connection.class, target, (m, result) ->
+                result instanceof Statement st && m.getName().matches("prepareStatement|prepareCall|createStatement")
+                        ? wrapStatement(m.getReturnType(), st)
+                        : result);
+    }
+
+    private Object wrapStatement(Class<?> type, Statement target) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (p, m, args) -> {
+            if (EXECUTE_METHODS.contains(m.getName())) {
+                Thread.sleep(latencyMs);
+            }
+            return invoke(target, m, args);
+        });
+    }
+
+    private interface ResultMapper {
+        Object map(Method method, Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (p, m, args) -> mapper.map(m, invoke(target, m, args)));
+    }
+
+    private static Object invoke(Object target, Method m, Object[] args) throws Throwable {
+        try {
+            return m.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
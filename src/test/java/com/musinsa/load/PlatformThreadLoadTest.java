@@ -0,0 +1,16 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/load/PlatformThreadLoadTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+/** 기준선: Tomcat 플랫폼 스레드 풀 */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadTest extends DbLatencyLoadTestSupport {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,19 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/load/VirtualThreadLoadTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.load;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+/** vthreads 프로파일 (Java 21 툴체인에서만 실행: -PjavaVersion=21) */
+@ActiveProfiles("vthreads")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadLoadTest extends DbLatencyLoadTestSupport {
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+}
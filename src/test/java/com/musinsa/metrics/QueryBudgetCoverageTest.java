@@ -0,0 +1,50 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/metrics/QueryBudgetCoverageTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 모든 API 핸들러가 @QueryBudget 을 선언했는지 검사 (UNBOUNDED 는 사유 필수)
+ */
+class QueryBudgetCoverageTest {
+
+    @Test
+    void everyHandlerDeclaresBudget() throws Exception {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(RestController.class));
+
+        List<String> missing = new ArrayList<>();
+        int handlers = 0;
+        for (BeanDefinition bd : scanner.findCandidateComponents("com.musinsa")) {
+            Class<?> controller = Class.forName(bd.getBeanClassName());
+            for (Method m : controller.getDeclaredMethods()) {
+                if (!AnnotatedElementUtils.hasAnnotation(m, RequestMapping.class)) {
+                    continue;
+                }
+                handlers++;
+                QueryBudget budget = m.getAnnotation(QueryBudget.class);
+                if (budget == null
+                        || (budget.value() == QueryBudget.UNBOUNDED && budget.reason().isBlank())) {
+                    missing.add(controller.getSimpleName() + "#" + m.getName());
+                }
+            }
+        }
+
+        assertThat(handlers).isPositive();
+        assertThat(missing).isEmpty();
+    }
+}
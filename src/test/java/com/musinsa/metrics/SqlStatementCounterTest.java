@@ -0,0 +1,48 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/metrics/SqlStatementCounterTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.end();
+    }
+
+    @Test
+    void outsideScope_countsNothing() {
+        counter.inspect("select 1");
+
+        assertThat(SqlStatementCounter.current()).isZero();
+    }
+
+    @Test
+    void nonStrictBudget_countsPastBudgetWithoutFailing() {
+        SqlStatementCounter.begin();
+        SqlStatementCounter.budget(1, false);
+
+        counter.inspect("select 1");
+        counter.inspect("select 2");
+
+        assertThat(SqlStatementCounter.end()).isEqualTo(2);
+    }
+
+    @Test
+    void strictBudget_rejectsStatementOverBudget() {
+        SqlStatementCounter.begin();
+        SqlStatementCounter.budget(1, true);
+
+        assertThat(counter.inspect("select 1")).isEqualTo("select 1");
+        assertThatThrownBy(() -> counter.inspect("select 2"))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("select 2");
+    }
+}
@@ -4,12 +4,18 @@
 package com.musinsa.repository;
 
 import com.musinsa.domain.Brand;
+import com.musinsa.domain.Category;
+import com.musinsa.domain.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
 
 import java.util.Optional;
 
@@ -17,11 +23,15 @@ import static org.assertj.core.api.Assertions.*;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2, 매핑 그대로 사용
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class BrandRepositoryTest {
 
     @Autowired
     BrandRepository brandRepo;
 
+    @Autowired
+    EntityManagerFactory emf;
+
     @DisplayName("브랜드 저장 & 단건 조회")
     @Test
     void saveAndFind() {
@@ -45,4 +55,30 @@ class BrandRepositoryTest {
         assertThatThrownBy(() -> brandRepo.saveAndFlush(b))
                 .isInstanceOf(DataIntegrityViolationException.class);
     }
+
+    @DisplayName("브랜드 목록은 이름이 아닌 등록(id) 순")
+    @Test
+    void findAllNamesInIdOrder_keepsRegistrationOrder() {
+        brandRepo.save(new Brand("ZZ-FIRST"));
+        brandRepo.save(new Brand("AA-SECOND"));
+
+        assertThat(brandRepo.findAllNamesInIdOrder()).endsWith("ZZ-FIRST", "AA-SECOND");
+    }
+
+    @DisplayName("브랜드+상품 8 개 cascade 저장이 JDBC 배치로 묶인다")
+    @Test
+    void cascadeSaveIsBatched() {
+        Brand brand = new Brand("BATCH");
+        for (Category c : Category.values()) {
+            brand.getProducts().add(new Product(brand, c, 1000));
+        }
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        brandRepo.saveAndFlush(brand);
+
+        assertThat(stats.getEntityInsertCount()).isEqualTo(1 + Category.values().length);
+        // 시퀀스 조회 최대 2 + brand INSERT 1 + product 배치 INSERT 1
+        assertThat(stats.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
 }
@@ -6,12 +6,14 @@ package com.musinsa.repository;
 import com.musinsa.domain.Brand;
 import com.musinsa.domain.Category;
 import com.musinsa.domain.Product;
+import com.musinsa.dto.ProductResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.TestPropertySource;
 
 import java.util.List;
@@ -67,6 +69,19 @@ class ProductRepositoryTest {
         assertThat(notExistsHat).isFalse();
     }
 
+    @DisplayName("findCategoryTakenByBrandId – 브랜드가 없으면 empty, 있으면 카테고리 점유 여부")
+    @Test
+    void findCategoryTakenByBrandId() {
+        Brand foo = new Brand("FOO");
+        em.persist(foo);
+        em.persist(new Product(foo, Category.TOP, 1000));
+        em.flush();
+
+        assertThat(productRepo.findCategoryTakenByBrandId(foo.getId(), Category.TOP)).contains(true);
+        assertThat(productRepo.findCategoryTakenByBrandId(foo.getId(), Category.HAT)).contains(false);
+        assertThat(productRepo.findCategoryTakenByBrandId(-1L, Category.TOP)).isEmpty();
+    }
+
     @DisplayName("JPQL로 카테고리별 최저가/최고가 조회")
     @Test
     void jpqlMinMaxByCategory() {
@@ -93,4 +108,68 @@ class ProductRepositoryTest {
                 .extracting(Product::getPrice)
                 .isEqualTo(2000);
     }
+
+    @DisplayName("키셋 페이지 – id 이후 행을 DTO 로, 카테고리·브랜드 필터 적용")
+    @Test
+    void findPageAfter_keysetWithFilters() {
+        Brand foo = em.persist(new Brand("FOO"));
+        Brand bar = em.persist(new Brand("BAR"));
+        Product p1 = em.persist(new Product(foo, Category.TOP, 1000));
+        Product p2 = em.persist(new Product(foo, Category.HAT, 2000));
+        Product p3 = em.persist(new Product(bar, Category.TOP, 3000));
+        em.flush();
+        em.clear();
+
+        List<ProductResponse> first = productRepo.findPageAfter(0L, null, null, Limit.of(2));
+        List<ProductResponse> rest = productRepo.findPageAfter(first.get(1).getId(), null, null, Limit.of(2));
+        List<ProductResponse> tops = productRepo.findPageAfter(0L, Category.TOP, null, Limit.of(10));
+        List<ProductResponse> fooTops = productRepo.findPageAfter(0L, Category.TOP, "FOO", Limit.of(10));
+
+        assertThat(first).extracting(ProductResponse::getId).containsExactly(p1.getId(), p2.getId());
+        assertThat(rest).extracting(ProductResponse::getId).containsExactly(p3.getId());
+        assertThat(tops).extracting(ProductResponse::getBrand).containsExactly("FOO", "BAR");
+        assertThat(fooTops).singleElement()
+                .extracting(ProductResponse::getPrice)
+                .isEqualTo(1000);
+    }
+
+    @DisplayName("bulkDeleteByBrandId – 해당 브랜드 상품만 DELETE 1회로 삭제")
+    @Test
+    void bulkDeleteByBrandId() {
+        Brand foo = em.persist(new Brand("FOO"));
+        Brand bar = em.persist(new Brand("BAR"));
+        for (Category c : Category.values()) {
+            em.persist(new Product(foo, c, 1000));
+        }
+        em.persist(new Product(bar, Category.TOP, 2000));
+        em.flush();
+        em.clear();
+
+        int deleted = productRepo.bulkDeleteByBrandId(foo.getId());
+
+        assertThat(deleted).isEqualTo(Category.values().length);
+        assertThat(productRepo.findByBrandId(foo.getId())).isEmpty();
+        assertThat(productRepo.findByBrandId(bar.getId())).hasSize(1);
+    }
+
+    @DisplayName("countCompleteBrandsBelow – 모든 카테고리를 가진 브랜드 중 총액 미만만 센다")
+    @Test
+    void countCompleteBrandsBelow() {
+        Brand foo = em.persist(new Brand("FOO"));
+        Brand bar = em.persist(new Brand("BAR"));
+        Brand partial = em.persist(new Brand("PARTIAL"));
+        for (Category c : Category.values()) {
+            em.persist(new Product(foo, c, 1000));
+            em.persist(new Product(bar, c, 2000));
+        }
+        em.persist(new Product(partial, Category.TOP, 1));
+        em.flush();
+        em.clear();
+
+        long n = Category.values().length;
+
+        assertThat(productRepo.countCompleteBrandsBelow(n, Long.MAX_VALUE)).isEqualTo(2);
+        assertThat(productRepo.countCompleteBrandsBelow(n, 2000 * n)).isEqualTo(1);
+        assertThat(productRepo.countCompleteBrandsBelow(n, 1000 * n)).isZero();
+    }
 }
@@ -0,0 +1,45 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/seed/CatalogGeneratorTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.seed;
+
+import com.musinsa.domain.Category;
+import com.musinsa.index.PriceChange;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CatalogGeneratorTest {
+
+    @Test
+    void generate_sameSeed_sameCatalog() {
+        List<PriceChange> a = new CatalogGenerator(SeedProperties.ofBrands(200)).toRows();
+        List<PriceChange> b = new CatalogGenerator(SeedProperties.ofBrands(200)).toRows();
+
+        assertThat(a).isEqualTo(b);
+    }
+
+    @Test
+    void generate_everyBrandHasProducts_topBrandFullyCovered() {
+        Map<String, Long> perBrand = new CatalogGenerator(SeedProperties.ofBrands(500)).toRows().stream()
+                .collect(Collectors.groupingBy(PriceChange::brand, Collectors.counting()));
+
+        assertThat(perBrand).hasSize(500);
+        assertThat(perBrand.get(CatalogGenerator.brandName(1))).isEqualTo(Category.values().length);
+        // 꼬리 브랜드는 일부 카테고리만 취급
+        assertThat(perBrand.values()).anyMatch(n -> n < Category.values().length);
+    }
+
+    @Test
+    void generate_pricesArePositiveHundreds() {
+        List<PriceChange> rows = new CatalogGenerator(SeedProperties.ofBrands(100)).toRows();
+
+        assertThat(rows).allSatisfy(r -> {
+            assertThat(r.price()).isPositive();
+            assertThat(r.price() % 100).isZero();
+        });
+    }
+}
@@ -0,0 +1,103 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/service/BrandIdCacheTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.service;
+
+import com.musinsa.domain.Brand;
+import com.musinsa.repository.BrandRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BrandIdCacheTest {
+
+    @Mock
+    private BrandRepository brandRepo;
+
+    private SimpleMeterRegistry registry;
+    private BrandIdCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new BrandIdCache(brandRepo, registry, 2);
+    }
+
+    private static Brand brand(long id, String name) {
+        Brand b = new Brand(name);
+        b.setId(id);
+        return b;
+    }
+
+    private double count(String result) {
+        return registry.get("brand.id.cache").tag("result", result).counter().count();
+    }
+
+    @DisplayName("미스 후 적중 – 두 번째 조회는 findByName 없이 참조 프록시")
+    @Test
+    void missThenHit() {
+        Brand a = brand(1L, "A");
+        when(brandRepo.findByName("A")).thenReturn(Optional.of(a));
+        when(brandRepo.getReferenceById(1L)).thenReturn(a);
+
+        assertThat(cache.find("A")).contains(a);
+        assertThat(cache.find("A")).contains(a);
+        assertThat(cache.exists("A")).isTrue();
+
+        verify(brandRepo, times(1)).findByName("A");
+        verify(brandRepo, never()).existsByName(any());
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(2);
+    }
+
+    @DisplayName("없는 브랜드는 캐시하지 않는다")
+    @Test
+    void absentIsNotCached() {
+        when(brandRepo.findByName("X")).thenReturn(Optional.empty());
+
+        assertThat(cache.find("X")).isEmpty();
+        assertThat(cache.find("X")).isEmpty();
+
+        verify(brandRepo, times(2)).findByName("X");
+        assertThat(cache.size()).isZero();
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 안 쓴 항목부터 제거")
+    @Test
+    void evictsLeastRecentlyUsed() {
+        cache.registerAfterCommit("A", 1L);
+        cache.registerAfterCommit("B", 2L);
+        when(brandRepo.getReferenceById(1L)).thenReturn(brand(1L, "A"));
+        cache.find("A");                       // A 최근 사용 → B 가 가장 오래됨
+        cache.registerAfterCommit("C", 3L);
+
+        assertThat(cache.size()).isEqualTo(2);
+        when(brandRepo.existsByName("B")).thenReturn(false);
+        assertThat(cache.exists("B")).isFalse();
+        assertThat(cache.exists("A")).isTrue();
+        assertThat(registry.get("brand.id.cache.evictions").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("적재 도중 삭제가 끼어들면 오래된 id 를 캐시하지 않는다")
+    @Test
+    void evictDuringLoadDiscardsStaleEntry() {
+        when(brandRepo.findByName("A")).thenAnswer(inv -> {
+            cache.evict("A");
+            return Optional.of(brand(1L, "A"));
+        });
+
+        cache.find("A");
+
+        assertThat(cache.size()).isZero();
+    }
+}
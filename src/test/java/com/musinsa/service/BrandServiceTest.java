@@ -8,13 +8,20 @@ import com.musinsa.common.ErrorCode;
 import com.musinsa.domain.Brand;
 import com.musinsa.domain.Category;
 import com.musinsa.domain.Product;
+import com.musinsa.index.BrandNameIndex;
+import com.musinsa.index.BrandSetChangedEvent;
+import com.musinsa.index.CatalogChangedEvent;
+import com.musinsa.index.PriceChange;
 import com.musinsa.repository.BrandRepository;
+import com.musinsa.repository.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
@@ -28,9 +35,32 @@ class BrandServiceTest {
     @Mock
     private BrandRepository brandRepo;
 
+    @Mock
+    private ProductRepository productRepo;
+
+    @Mock
+    private BrandIdCache brandIds;
+
+    @Mock
+    private BrandNameIndex nameIndex;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
     @InjectMocks
     private BrandService brandService;
 
+    /** 발행된 이벤트 중 type 인 첫 번째 */
+    private <T> T published(Class<T> type) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(events, atLeastOnce()).publishEvent(captor.capture());
+        return captor.getAllValues().stream()
+                .filter(type::isInstance)
+                .map(type::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+
     /*────────────────────────────────────────────────────────────────
      * createBrand
      *────────────────────────────────────────────────────────────────*/
@@ -42,7 +72,7 @@ class BrandServiceTest {
                 Category.BOTTOM.getKrName(), 2000
         );
 
-        when(brandRepo.existsByName(name)).thenReturn(false);
+        when(brandIds.exists(name)).thenReturn(false);
 
         brandService.createBrand(name, priceMap);
 
@@ -52,6 +82,8 @@ class BrandServiceTest {
 
         Brand saved = captor.getValue();
         assertThat(saved.getName()).isEqualTo(name);
+        verify(brandIds).registerAfterCommit(name, saved.getId());
+        assertThat(published(BrandSetChangedEvent.class)).isEqualTo(BrandSetChangedEvent.created(name));
 
         // 제품 정보가 priceMap 크기만큼 추가됐는지 확인
         assertThat(saved.getProducts()).hasSize(priceMap.size());
@@ -66,7 +98,7 @@ class BrandServiceTest {
     @Test
     void createBrand_whenAlreadyExists_throwsException() {
         String name = "ExistBrand";
-        when(brandRepo.existsByName(name)).thenReturn(true);
+        when(brandIds.exists(name)).thenReturn(true);
 
         ApiException ex = assertThrows(ApiException.class,
                 () -> brandService.createBrand(name, Map.of()));
@@ -77,7 +109,7 @@ class BrandServiceTest {
     @Test
     void createBrand_invalidCategory_throwsValidationError() {
         String name = "New";
-        when(brandRepo.existsByName(name)).thenReturn(false);
+        when(brandIds.exists(name)).thenReturn(false);
 
         Map<String, Integer> priceMap = Map.of("잘못된", 1000);
 
@@ -88,6 +120,19 @@ class BrandServiceTest {
         assertThat(ex.getMessage()).isEqualTo("유효하지 않은 카테고리명입니다: 잘못된");
     }
 
+    @Test
+    void createBrand_nonPositivePrice_throwsValidationError() {
+        String name = "New";
+        when(brandIds.exists(name)).thenReturn(false);
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> brandService.createBrand(name, Map.of(Category.TOP.getKrName(), 0)));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+        assertThat(ex.getMessage()).isEqualTo("카테고리 '상의'의 가격은 0보다 커야 합니다.");
+        verify(brandRepo, never()).save(any());
+    }
+
     /*────────────────────────────────────────────────────────────────
      * updateBrand
      *────────────────────────────────────────────────────────────────*/
@@ -95,9 +140,9 @@ class BrandServiceTest {
     void updateBrand_success() {
         String name = "UpBrand";
         Brand existing = new Brand(name);
-        // 기존 제품 셋업
-        existing.getProducts().add(new Product(existing, Category.TOP, 500));
-        when(brandRepo.findByName(name)).thenReturn(Optional.of(existing));
+        Product top = new Product(existing, Category.TOP, 500);
+        when(brandIds.find(name)).thenReturn(Optional.of(existing));
+        when(productRepo.findByBrandId(existing.getId())).thenReturn(List.of(top));
 
         Map<String, Integer> newPrices = Map.of(
                 Category.BOTTOM.getKrName(), 1500,
@@ -106,24 +151,79 @@ class BrandServiceTest {
 
         brandService.updateBrand(name, newPrices);
 
-        // clear 후 재등록, save 호출 검증
-        ArgumentCaptor<Brand> captor = ArgumentCaptor.forClass(Brand.class);
-        verify(brandRepo).save(captor.capture());
-
-        Brand updated = captor.getValue();
-        assertThat(updated.getName()).isEqualTo(name);
-        assertThat(updated.getProducts()).hasSize(newPrices.size());
-        for (Product p : updated.getProducts()) {
+        // 요청에 없는 TOP 은 일괄 삭제, BOTTOM·HAT 은 신규 등록
+        verify(productRepo).deleteAllInBatch(List.of(top));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Product>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productRepo).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(newPrices.size());
+        for (Product p : captor.getValue()) {
             String kr = p.getCategory().getKrName();
             assertThat(newPrices).containsKey(kr);
             assertThat(p.getPrice()).isEqualTo(newPrices.get(kr));
+            assertThat(p.getBrand()).isSameAs(existing);
         }
+        verify(brandRepo, never()).save(any());
+    }
+
+    @Test
+    void updateBrand_publishesPutsAndRemovals() {
+        String name = "EvBrand";
+        Brand existing = new Brand(name);
+        when(brandIds.find(name)).thenReturn(Optional.of(existing));
+        when(productRepo.findByBrandId(existing.getId()))
+                .thenReturn(List.of(new Product(existing, Category.TOP, 500)));
+
+        brandService.updateBrand(name, Map.of(Category.HAT.getKrName(), 800));
+
+        ArgumentCaptor<CatalogChangedEvent> captor = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(events).publishEvent(captor.capture());
+        assertThat(captor.getValue().changes()).containsExactlyInAnyOrder(
+                PriceChange.put(name, Category.HAT, 800),
+                PriceChange.remove(name, Category.TOP)
+        );
+    }
+
+    @Test
+    void updateBrand_onlyChangedCategoriesAreWrittenAndPublished() {
+        String name = "DiffBrand";
+        Brand existing = new Brand(name);
+        Product top = new Product(existing, Category.TOP, 500);
+        Product hat = new Product(existing, Category.HAT, 700);
+        when(brandIds.find(name)).thenReturn(Optional.of(existing));
+        when(productRepo.findByBrandId(existing.getId())).thenReturn(List.of(top, hat));
+
+        brandService.updateBrand(name, Map.of(
+                Category.TOP.getKrName(), 500,     // 그대로
+                Category.HAT.getKrName(), 900      // 가격 변경
+        ));
+
+        assertThat(top.getPrice()).isEqualTo(500);
+        assertThat(hat.getPrice()).isEqualTo(900);
+        verify(productRepo, never()).deleteAllInBatch(any());
+        verify(productRepo, never()).saveAll(any());
+        ArgumentCaptor<CatalogChangedEvent> captor = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(events).publishEvent(captor.capture());
+        assertThat(captor.getValue().changes()).containsExactly(PriceChange.put(name, Category.HAT, 900));
+    }
+
+    @Test
+    void updateBrand_noChanges_publishesNothing() {
+        String name = "SameBrand";
+        Brand existing = new Brand(name);
+        when(brandIds.find(name)).thenReturn(Optional.of(existing));
+        when(productRepo.findByBrandId(existing.getId()))
+                .thenReturn(List.of(new Product(existing, Category.TOP, 500)));
+
+        brandService.updateBrand(name, Map.of(Category.TOP.getKrName(), 500));
+
+        verifyNoInteractions(events);
     }
 
     @Test
     void updateBrand_whenNotFound_throwsException() {
         String name = "NoBrand";
-        when(brandRepo.findByName(name)).thenReturn(Optional.empty());
+        when(brandIds.find(name)).thenReturn(Optional.empty());
 
         ApiException ex = assertThrows(ApiException.class,
                 () -> brandService.updateBrand(name, Map.of()));
@@ -131,11 +231,41 @@ class BrandServiceTest {
         assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BRAND_NOT_FOUND);
     }
 
+    @Test
+    void updateBrand_staleCachedId_evictsAndThrowsNotFound() {
+        String name = "GoneBrand";
+        Brand stale = new Brand(name);
+        stale.setId(9L);
+        when(brandIds.find(name)).thenReturn(Optional.of(stale));
+        when(productRepo.findByBrandId(9L)).thenReturn(List.of());
+        when(brandRepo.existsById(9L)).thenReturn(false);
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> brandService.updateBrand(name, Map.of(Category.TOP.getKrName(), 1000)));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BRAND_NOT_FOUND);
+        verify(brandIds).evict(name);
+        verify(productRepo, never()).saveAll(any());
+        verifyNoInteractions(events);
+    }
+
+    @Test
+    void updateBrand_nonPositivePrice_throwsValidationError() {
+        String name = "Up";
+        when(brandIds.find(name)).thenReturn(Optional.of(new Brand(name)));
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> brandService.updateBrand(name, Map.of(Category.HAT.getKrName(), -1)));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+        verifyNoInteractions(productRepo, events);
+    }
+
     @Test
     void updateBrand_invalidCategory_throwsValidationError() {
         String name = "Up";
         Brand b = new Brand(name);
-        when(brandRepo.findByName(name)).thenReturn(Optional.of(b));
+        when(brandIds.find(name)).thenReturn(Optional.of(b));
 
         Map<String, Integer> priceMap = Map.of("없음", 1000);
 
@@ -153,21 +283,79 @@ class BrandServiceTest {
     void deleteBrand_success() {
         String name = "DelBrand";
         Brand existing = new Brand(name);
-        when(brandRepo.findByName(name)).thenReturn(Optional.of(existing));
+        existing.setId(7L);
+        when(brandIds.find(name)).thenReturn(Optional.of(existing));
+        when(brandRepo.bulkDeleteById(7L)).thenReturn(1);
 
         brandService.deleteBrand(name);
 
-        verify(brandRepo).delete(existing);
+        // 엔티티 로딩·cascade 삭제 없이 bulk DELETE 2회
+        verify(productRepo).bulkDeleteByBrandId(7L);
+        verify(brandRepo).bulkDeleteById(7L);
+        verify(brandRepo, never()).delete(any());
+        verify(brandIds).evict(name);
+        assertThat(published(BrandSetChangedEvent.class)).isEqualTo(BrandSetChangedEvent.deleted(name));
+
+        assertThat(published(CatalogChangedEvent.class).changes())
+                .hasSize(Category.values().length)
+                .allMatch(PriceChange::isRemoval)
+                .allMatch(ch -> ch.brand().equals(name));
+    }
+
+    @Test
+    void deleteBrand_alreadyDeleted_throwsNotFound() {
+        String name = "GoneBrand";
+        Brand stale = new Brand(name);
+        stale.setId(9L);
+        when(brandIds.find(name)).thenReturn(Optional.of(stale));
+        when(brandRepo.bulkDeleteById(9L)).thenReturn(0);
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> brandService.deleteBrand(name));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BRAND_NOT_FOUND);
+        verify(brandIds).evict(name);
+        verifyNoInteractions(events);
     }
 
     @Test
     void deleteBrand_whenNotFound_throwsException() {
         String name = "Missing";
-        when(brandRepo.findByName(name)).thenReturn(Optional.empty());
+        when(brandIds.find(name)).thenReturn(Optional.empty());
 
         ApiException ex = assertThrows(ApiException.class,
                 () -> brandService.deleteBrand(name));
 
         assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BRAND_NOT_FOUND);
     }
+
+    /*────────────────────────────────────────────────────────────────
+     * getBrand
+     *────────────────────────────────────────────────────────────────*/
+    @Test
+    void getBrand_staleCachedProxy_evictsAndThrowsNotFound() {
+        String name = "GoneBrand";
+        Brand stale = mock(Brand.class);
+        when(stale.getName()).thenThrow(new EntityNotFoundException());
+        when(brandIds.find(name)).thenReturn(Optional.of(stale));
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> brandService.getBrand(name));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BRAND_NOT_FOUND);
+        verify(brandIds).evict(name);
+    }
+
+    /*────────────────────────────────────────────────────────────────
+     * suggestBrandNames
+     *────────────────────────────────────────────────────────────────*/
+    @Test
+    void suggestBrandNames_clampsLimit() {
+        brandService.suggestBrandNames("a", 10_000);
+        brandService.suggestBrandNames("a", 0);
+
+        verify(nameIndex).suggest("a", BrandService.MAX_SUGGEST);
+        verify(nameIndex).suggest("a", 1);
+        verifyNoInteractions(brandRepo);
+    }
 }
@@ -0,0 +1,125 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/service/PriceEventServiceTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.service;
+
+import com.musinsa.domain.Category;
+import com.musinsa.dto.PriceEvent;
+import com.musinsa.index.BrandBundleIndex;
+import com.musinsa.index.CatalogChangedEvent;
+import com.musinsa.index.CategoryPriceIndex;
+import com.musinsa.index.PriceChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class PriceEventServiceTest {
+
+    private CategoryPriceIndex categoryIndex;
+    private BrandBundleIndex bundleIndex;
+    private PriceEventService service;
+
+    @BeforeEach
+    void setUp() {
+        categoryIndex = new CategoryPriceIndex();
+        bundleIndex = new BrandBundleIndex();
+        List<PriceChange> rows = new ArrayList<>();
+        for (Category c : Category.values()) {
+            rows.add(PriceChange.put("A", c, 1000));
+            rows.add(PriceChange.put("B", c, 2000));
+        }
+        categoryIndex.reset(rows);
+        bundleIndex.reset(rows);
+        service = new PriceEventService(categoryIndex, bundleIndex, new StandardEnvironment());
+        service.diff();   // 기준 상태
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void diff_noChange_emitsNothing() {
+        assertThat(service.diff()).isEmpty();
+    }
+
+    @Test
+    void diff_minChangeInOneCategory_emitsOnlyThatCategory() {
+        apply(PriceChange.put("B", Category.TOP, 1000));
+
+        List<Object> deltas = service.diff();
+
+        assertThat(deltas).containsExactly(new PriceEvent.CategoryExtremes(
+                Category.TOP.getKrName(), 1000, List.of("A", "B"), 1000, List.of("A", "B")));
+    }
+
+    @Test
+    void diff_nonExtremePriceChange_emitsNothing() {
+        apply(PriceChange.put("C", Category.TOP, 1500));
+
+        assertThat(service.diff()).isEmpty();
+    }
+
+    @Test
+    void diff_winnerChange_emitsCheapestBrand() {
+        List<PriceChange> cheaper = new ArrayList<>();
+        for (Category c : Category.values()) {
+            cheaper.add(PriceChange.put("B", c, 1500));
+        }
+        cheaper.add(PriceChange.put("A", Category.TOP, 9000));
+        categoryIndex.apply(cheaper);
+        bundleIndex.apply(cheaper);
+
+        List<Object> deltas = service.diff();
+
+        assertThat(deltas).contains(new PriceEvent.CheapestBrand("B", 1500 * Category.values().length));
+    }
+
+    private void apply(PriceChange change) {
+        CatalogChangedEvent event = CatalogChangedEvent.of(change);
+        categoryIndex.apply(event.changes());
+        bundleIndex.apply(event.changes());
+    }
+
+    @Test
+    void diff_doesNotWaitForSlowSubscriber() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch sending = new CountDownLatch(1);
+        SseEmitter slow = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        service.subscribe(slow);
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        apply(PriceChange.put("B", Category.TOP, 500));
+
+        try {
+            List<Object> deltas = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> service.diff());
+            assertThat(deltas).isNotEmpty();
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+// ────────────────────────────────────────────────────────────────
+// File : src/test/java/com/musinsa/service/PriceServiceQueryCountTest.java
+// ────────────────────────────────────────────────────────────────
+package com.musinsa.service;
+
+import com.musinsa.domain.Brand;
+import com.musinsa.domain.Category;
+import com.musinsa.domain.Product;
+import com.musinsa.dto.CategoryStatResponse;
+import com.musinsa.dto.LowestByBrandResponse;
+import com.musinsa.dto.LowestByCategoryResponse;
+import com.musinsa.index.BrandBundleIndex;
+import com.musinsa.index.CategoryPriceIndex;
+import com.musinsa.repository.BrandRepository;
+import com.musinsa.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 인덱스 로딩 전 DB 경로의 SQL 실행 횟수 검증
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files=none",
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class PriceServiceQueryCountTest {
+
+    @Autowired TestEntityManager em;
+    @Autowired EntityManagerFactory emf;
+    @Autowired ProductRepository productRepo;
+    @Autowired BrandRepository brandRepo;
+
+    PriceService priceService;
+    Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        for (String name : new String[]{"A", "B", "C"}) {
+            Brand b = em.persist(new Brand(name));
+            for (Category c : Category.values()) {
+                em.persist(new Product(b, c, 1000 + c.ordinal() * 10 + name.charAt(0)));
+            }
+        }
+        em.flush();
+        em.clear();
+
+        // 인덱스를 로딩하지 않은 상태 → DB 경로 사용
+        priceService = new PriceService(productRepo, brandRepo,
+                new CategoryPriceIndex(), new BrandBundleIndex());
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+    }
+
+    @DisplayName("카테고리별 최저가: 전 카테고리를 SQL 1회로 조회")
+    @Test
+    void lowestByCategory_singleStatement() {
+        LowestByCategoryResponse resp = priceService.getLowestByCategory();
+
+        assertThat(resp.getItems()).hasSize(Category.values().length);
+        assertThat(resp.getItems()).extracting("brand").containsOnly("A");
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("단일 브랜드 최저가: 집계 1회 + 우승 브랜드 상품 1회")
+    @Test
+    void lowestBySingleBrand_twoStatements() {
+        LowestByBrandResponse resp = priceService.getLowestBySingleBrand();
+
+        assertThat(resp.getBrand()).isEqualTo("A");
+        assertThat(resp.getCategories()).hasSize(Category.values().length);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("카테고리 최저·최고가: 동률 브랜드가 여럿이어도 SQL 2회 (브랜드 지연 로딩 없음)")
+    @Test
+    void categoryStat_tiesDoNotTriggerLazyBrandLoads() {
+        // A 의 상의 최저가, C 의 상의 최고가와 같은 가격의 브랜드를 추가
+        Brand d = em.persist(new Brand("D"));
+        Brand e = em.persist(new Brand("E"));
+        em.persist(new Product(d, Category.TOP, 1000 + 'A'));
+        em.persist(new Product(e, Category.TOP, 1000 + 'C'));
+        em.flush();
+        em.clear();
+        stats.clear();
+
+        CategoryStatResponse resp = priceService.getCategoryStat(Category.TOP.getKrName());
+
+        assertThat(resp.getLowest()).extracting("brand").containsExactlyInAnyOrder("A", "D");
+        assertThat(resp.getHighest()).extracting("brand").containsExactlyInAnyOrder("C", "E");
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("카테고리 가격 분포: 카테고리 전체를 읽지 않고 SQL 5회 (집계 + 분위수 3 + 양 끝)")
+    @Test
+    void categoryStatDetail_fiveStatements() {
+        CategoryStatResponse resp = priceService.getCategoryStatDetail(Category.TOP.getKrName());
+
+        // 상의 가격: A=1065, B=1066, C=1067
+        assertThat(resp.getLowest()).extracting("brand").containsExactly("A");
+        assertThat(resp.getHighest()).extracting("brand").containsExactly("C");
+        assertThat(resp.getDistribution()).extracting("count", "mean", "p50", "p90", "p99")
+                .containsExactly(3, 1066.0, 1066, 1067, 1067);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(5);
+    }
+}
@@ -8,16 +8,26 @@ import com.musinsa.common.ErrorCode;
 import com.musinsa.domain.Brand;
 import com.musinsa.domain.Category;
 import com.musinsa.domain.Product;
+import com.musinsa.dto.BrandLeaderboardResponse;
+import com.musinsa.dto.BrandRankResponse;
+import com.musinsa.dto.CategoryRankingResponse;
 import com.musinsa.dto.CategoryStatResponse;
 import com.musinsa.dto.LowestByBrandResponse;
 import com.musinsa.dto.LowestByCategoryResponse;
+import com.musinsa.index.BrandBundleIndex;
+import com.musinsa.index.CategoryPriceIndex;
+import com.musinsa.index.PriceChange;
 import com.musinsa.repository.BrandRepository;
+import com.musinsa.repository.BrandTotal;
+import com.musinsa.repository.CategoryPriceSummary;
 import com.musinsa.repository.ProductRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.util.*;
 
@@ -30,6 +40,8 @@ class PriceServiceTest {
 
     @Mock private ProductRepository productRepo;
     @Mock private BrandRepository brandRepo;
+    @Mock private CategoryPriceIndex categoryIndex;   // 미로딩 상태 → DB 경로
+    @Mock private BrandBundleIndex bundleIndex;
     @InjectMocks private PriceService priceService;
 
     /*────────────────────────────────────────────────────────────────
@@ -39,16 +51,18 @@ class PriceServiceTest {
     @Test
     void getLowestByCategory_success() {
         Map<Category, Integer> priceMap = new EnumMap<>(Category.class);
+        List<PriceChange> rows = new ArrayList<>();
         for (Category c : Category.values()) {
             int price = c.ordinal() + 100;
             priceMap.put(c, price);
-            when(productRepo.findMinPriceByCategory(c))
-                    .thenReturn(List.of(new Product(new Brand("B-"+c), c, price)));
+            rows.add(PriceChange.put("B-" + c, c, price));
         }
+        when(productRepo.findCheapestRowsAllCategories()).thenReturn(rows);
 
         LowestByCategoryResponse resp = priceService.getLowestByCategory();
 
         assertThat(resp.getItems()).hasSize(Category.values().length);
+        verify(productRepo, never()).findMinPriceByCategory(any());
         int expectedTotal = priceMap.values().stream().mapToInt(Integer::intValue).sum();
         assertThat(resp.getTotal()).isEqualTo(expectedTotal);
     }
@@ -56,7 +70,7 @@ class PriceServiceTest {
     @Test
     void getLowestByCategory_whenEmpty_throwsException() {
         Category bad = Category.TOP;
-        when(productRepo.findMinPriceByCategory(bad)).thenReturn(Collections.emptyList());
+        when(productRepo.findCheapestRowsAllCategories()).thenReturn(Collections.emptyList());
 
         ApiException ex = assertThrows(ApiException.class,
                 () -> priceService.getLowestByCategory());
@@ -72,27 +86,28 @@ class PriceServiceTest {
 
     @Test
     void getLowestBySingleBrand_success() {
-        Brand b = new Brand("BestBrand");
-        List<Product> prods = new ArrayList<>();
+        List<PriceChange> rows = new ArrayList<>();
         int sum = 0;
         for (Category c : Category.values()) {
-            Product p = new Product(b, c, c.ordinal() + 200);
-            prods.add(p);
-            sum += p.getPrice();
+            rows.add(PriceChange.put("BestBrand", c, c.ordinal() + 200));
+            sum += c.ordinal() + 200;
         }
-        b.setProducts(prods);
-        when(brandRepo.findAll()).thenReturn(List.of(b));
+        when(productRepo.findCompleteBrandTotals(eq((long) Category.values().length), any()))
+                .thenReturn(List.of(new BrandTotal(7L, "BestBrand", (long) sum)));
+        when(productRepo.findPriceRowsByBrandId(7L)).thenReturn(rows);
 
         LowestByBrandResponse resp = priceService.getLowestBySingleBrand();
 
         assertThat(resp.getBrand()).isEqualTo("BestBrand");
         assertThat(resp.getCategories()).hasSize(Category.values().length);
         assertThat(resp.getTotal()).isEqualTo(sum);
+        verify(brandRepo, never()).findAll();
     }
 
     @Test
     void getLowestBySingleBrand_whenNoBrands_throwsException() {
-        when(brandRepo.findAll()).thenReturn(Collections.emptyList());
+        when(productRepo.findCompleteBrandTotals(anyLong(), any())).thenReturn(Collections.emptyList());
+        when(brandRepo.count()).thenReturn(0L);
 
         ApiException ex = assertThrows(ApiException.class,
                 () -> priceService.getLowestBySingleBrand());
@@ -103,9 +118,8 @@ class PriceServiceTest {
 
     @Test
     void getLowestBySingleBrand_whenNoFullCover_throwsException() {
-        Brand b = new Brand("Partial");
-        b.setProducts(List.of(new Product(b, Category.TOP, 1000)));
-        when(brandRepo.findAll()).thenReturn(List.of(b));
+        when(productRepo.findCompleteBrandTotals(anyLong(), any())).thenReturn(Collections.emptyList());
+        when(brandRepo.count()).thenReturn(1L);
 
         ApiException ex = assertThrows(ApiException.class,
                 () -> priceService.getLowestBySingleBrand());
@@ -164,30 +178,309 @@ class PriceServiceTest {
     }
 
     @Test
-    void getLowestBySingleBrand_duplicateCategory_usesCheapestPrice() {
-        Brand b = new Brand("DupBrand");
-        List<Product> prods = new ArrayList<>();
-        prods.add(new Product(b, Category.TOP, 1500));
-        prods.add(new Product(b, Category.TOP, 1000));
-        int total = 1000;
+    void getLowestBySingleBrand_rowsOutOfOrder_sortedByCategory() {
+        List<PriceChange> rows = new ArrayList<>();
         for (Category c : Category.values()) {
-            if (c == Category.TOP) continue;
-            Product p = new Product(b, c, c.ordinal() + 200);
-            prods.add(p);
-            total += p.getPrice();
+            rows.add(0, PriceChange.put("Winner", c, 100));
         }
-        b.setProducts(prods);
-        when(brandRepo.findAll()).thenReturn(List.of(b));
+        int total = 100 * Category.values().length;
+        when(productRepo.findCompleteBrandTotals(anyLong(), any()))
+                .thenReturn(List.of(new BrandTotal(1L, "Winner", (long) total)));
+        when(productRepo.findPriceRowsByBrandId(1L)).thenReturn(rows);
 
         LowestByBrandResponse resp = priceService.getLowestBySingleBrand();
 
-        assertThat(resp.getBrand()).isEqualTo("DupBrand");
-        assertThat(resp.getCategories()).hasSize(Category.values().length);
-        assertThat(resp.getCategories())
-                .filteredOn(cp -> cp.getCategory().equals(Category.TOP.getKrName()))
-                .first()
-                .extracting("price")
-                .isEqualTo(1000);
+        assertThat(resp.getCategories()).extracting("category")
+                .containsExactly(Arrays.stream(Category.values()).map(Category::getKrName).toArray());
         assertThat(resp.getTotal()).isEqualTo(total);
     }
+
+    /*────────────────────────────────────────────────────────────────
+     * 인덱스 경로 (로딩 완료 후에는 리포지토리를 호출하지 않음)
+     *────────────────────────────────────────────────────────────────*/
+
+    private PriceService indexedService(List<PriceChange> rows) {
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        index.reset(rows);
+        BrandBundleIndex bundles = new BrandBundleIndex();
+        bundles.reset(rows);
+        return new PriceService(productRepo, brandRepo, index, bundles);
+    }
+
+    @Test
+    void getLowestByCategory_fromIndex_noRepositoryAccess() {
+        List<PriceChange> rows = new ArrayList<>();
+        int expectedTotal = 0;
+        for (Category c : Category.values()) {
+            rows.add(PriceChange.put("A", c, c.ordinal() + 100));
+            rows.add(PriceChange.put("B", c, c.ordinal() + 50));
+            expectedTotal += c.ordinal() + 50;
+        }
+
+        LowestByCategoryResponse resp = indexedService(rows).getLowestByCategory();
+
+        assertThat(resp.getItems()).hasSize(Category.values().length);
+        assertThat(resp.getItems()).extracting("brand").containsOnly("B");
+        assertThat(resp.getTotal()).isEqualTo(expectedTotal);
+        verifyNoInteractions(productRepo, brandRepo);
+    }
+
+    @Test
+    void getLowestByCategory_fromIndex_missingCategory_throwsException() {
+        PriceService service = indexedService(List.of(PriceChange.put("A", Category.OUTER, 1000)));
+
+        ApiException ex = assertThrows(ApiException.class, service::getLowestByCategory);
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
+        assertThat(ex.getMessage())
+                .isEqualTo(Category.TOP.getKrName() + " 카테고리에 상품이 없습니다.");
+    }
+
+    @Test
+    void getCategoryStat_fromIndex_returnsTies() {
+        Category c = Category.BOTTOM;
+        PriceService service = indexedService(List.of(
+                PriceChange.put("A", c, 500),
+                PriceChange.put("B", c, 1000),
+                PriceChange.put("C", c, 500)
+        ));
+
+        CategoryStatResponse resp = service.getCategoryStat(c.getKrName());
+
+        assertThat(resp.getLowest()).extracting("brand", "price")
+                .containsExactly(tuple("A", 500), tuple("C", 500));
+        assertThat(resp.getHighest()).extracting("brand", "price")
+                .containsExactly(tuple("B", 1000));
+        verifyNoInteractions(productRepo, brandRepo);
+    }
+
+    @Test
+    void getCategoryStat_fromIndex_emptyCategory_throwsNotFound() {
+        PriceService service = indexedService(List.of());
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> service.getCategoryStat(Category.HAT.getKrName()));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.CATEGORY_NOT_FOUND);
+    }
+
+    @Test
+    void getLowestBySingleBrand_fromIndex_picksCheapestCompleteBrand() {
+        List<PriceChange> rows = new ArrayList<>();
+        for (Category c : Category.values()) {
+            rows.add(PriceChange.put("Full", c, 1000));
+            rows.add(PriceChange.put("Cheap", c, 900));
+        }
+        rows.add(PriceChange.put("Partial", Category.TOP, 1));
+
+        LowestByBrandResponse resp = indexedService(rows).getLowestBySingleBrand();
+
+        assertThat(resp.getBrand()).isEqualTo("Cheap");
+        assertThat(resp.getCategories()).extracting("category")
+                .containsExactly(Arrays.stream(Category.values()).map(Category::getKrName).toArray());
+        assertThat(resp.getTotal()).isEqualTo(900 * Category.values().length);
+        verifyNoInteractions(productRepo, brandRepo);
+    }
+
+    @Test
+    void getLowestBySingleBrand_fromIndex_noFullCover_throwsException() {
+        when(brandRepo.count()).thenReturn(1L);
+        PriceService service = indexedService(List.of(PriceChange.put("Partial", Category.TOP, 1000)));
+
+        ApiException ex = assertThrows(ApiException.class, service::getLowestBySingleBrand);
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BRAND_NOT_FOUND);
+        assertThat(ex.getMessage()).isEqualTo("모든 카테고리를 가진 브랜드가 없습니다.");
+    }
+
+    /*────────────────────────────────────────────────────────────────
+     * getCategoryRanking
+     *────────────────────────────────────────────────────────────────*/
+
+    @Test
+    void getCategoryRanking_fromIndex_pagesWithoutRepositoryAccess() {
+        Category c = Category.SOCKS;
+        PriceService service = indexedService(List.of(
+                PriceChange.put("A", c, 300),
+                PriceChange.put("B", c, 100),
+                PriceChange.put("C", c, 200),
+                PriceChange.put("D", c, 200)
+        ));
+
+        CategoryRankingResponse resp = service.getCategoryRanking(c.getKrName(), 1, 2);
+
+        assertThat(resp.getTotal()).isEqualTo(4);
+        assertThat(resp.getOffset()).isEqualTo(1);
+        assertThat(resp.getItems()).extracting("rank", "brand", "price")
+                .containsExactly(tuple(2, "C", 200), tuple(2, "D", 200));
+        verifyNoInteractions(productRepo, brandRepo);
+    }
+
+    @Test
+    void getCategoryRanking_fromDb_ranksPrefixAndSlices() {
+        Category c = Category.BAG;
+        when(productRepo.findRankedByCategory(eq(c), any())).thenReturn(List.of(
+                PriceChange.put("B", c, 100),
+                PriceChange.put("C", c, 200),
+                PriceChange.put("D", c, 200)
+        ));
+        when(productRepo.countByCategory(c)).thenReturn(5L);
+
+        CategoryRankingResponse resp = priceService.getCategoryRanking(c.getKrName(), 2, 1);
+
+        assertThat(resp.getTotal()).isEqualTo(5);
+        assertThat(resp.getItems()).extracting("rank", "brand").containsExactly(tuple(2, "D"));
+    }
+
+    @Test
+    void getCategoryRanking_emptyCategory_throwsNotFound() {
+        PriceService service = indexedService(List.of());
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> service.getCategoryRanking(Category.HAT.getKrName(), 0, 10));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.CATEGORY_NOT_FOUND);
+    }
+
+    /*────────────────────────────────────────────────────────────────
+     * getBrandLeaderboard / getBrandRank
+     *────────────────────────────────────────────────────────────────*/
+
+    private static List<PriceChange> fullBrand(String brand, int price) {
+        List<PriceChange> rows = new ArrayList<>();
+        for (Category c : Category.values()) {
+            rows.add(PriceChange.put(brand, c, price));
+        }
+        return rows;
+    }
+
+    @Test
+    void getBrandLeaderboard_fromIndex_noRepositoryAccess() {
+        List<PriceChange> rows = new ArrayList<>();
+        rows.addAll(fullBrand("A", 300));
+        rows.addAll(fullBrand("B", 100));
+        rows.addAll(fullBrand("C", 200));
+        PriceService service = indexedService(rows);
+
+        BrandLeaderboardResponse resp = service.getBrandLeaderboard(1, 5);
+
+        assertThat(resp.getBrands()).isEqualTo(3);
+        assertThat(resp.getItems()).extracting("rank", "brand")
+                .containsExactly(tuple(2, "C"), tuple(3, "A"));
+        verifyNoInteractions(productRepo, brandRepo);
+    }
+
+    @Test
+    void getBrandLeaderboard_fromDb_ranksPrefixAndSlices() {
+        long n = Category.values().length;
+        when(productRepo.findCompleteBrandTotals(eq(n), any())).thenReturn(List.of(
+                new BrandTotal(1L, "B", 100L),
+                new BrandTotal(2L, "C", 200L),
+                new BrandTotal(3L, "D", 200L)
+        ));
+        when(productRepo.countCompleteBrandsBelow(n, Long.MAX_VALUE)).thenReturn(4L);
+
+        BrandLeaderboardResponse resp = priceService.getBrandLeaderboard(2, 1);
+
+        assertThat(resp.getBrands()).isEqualTo(4);
+        assertThat(resp.getItems()).extracting("rank", "brand", "total")
+                .containsExactly(tuple(2, "D", 200));
+    }
+
+    @Test
+    void getBrandRank_fromIndex() {
+        List<PriceChange> rows = new ArrayList<>();
+        rows.addAll(fullBrand("A", 300));
+        rows.addAll(fullBrand("B", 100));
+        PriceService service = indexedService(rows);
+
+        BrandRankResponse resp = service.getBrandRank("A");
+
+        assertThat(resp.getRank()).isEqualTo(2);
+        assertThat(resp.getTotal()).isEqualTo(300 * Category.values().length);
+        verifyNoInteractions(productRepo, brandRepo);
+    }
+
+    @Test
+    void getBrandRank_fromDb_countsCheaperBundles() {
+        long n = Category.values().length;
+        when(productRepo.findPriceRowsByBrandNameIn(List.of("A"))).thenReturn(fullBrand("A", 300));
+        when(productRepo.countCompleteBrandsBelow(n, 300 * n)).thenReturn(2L);
+
+        BrandRankResponse resp = priceService.getBrandRank("A");
+
+        assertThat(resp.getRank()).isEqualTo(3);
+        assertThat(resp.getTotal()).isEqualTo((int) (300 * n));
+    }
+
+    @Test
+    void getBrandRank_incompleteBrand_throwsNotFound() {
+        PriceService service = indexedService(List.of(PriceChange.put("A", Category.TOP, 100)));
+
+        ApiException ex = assertThrows(ApiException.class, () -> service.getBrandRank("A"));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BRAND_NOT_FOUND);
+    }
+
+    /*────────────────────────────────────────────────────────────────
+     * getCategoryStatDetail
+     *────────────────────────────────────────────────────────────────*/
+
+    @Test
+    void getCategoryStatDetail_fromIndex_addsDistribution() {
+        Category c = Category.SOCKS;
+        PriceService service = indexedService(List.of(
+                PriceChange.put("A", c, 100),
+                PriceChange.put("B", c, 200),
+                PriceChange.put("C", c, 300),
+                PriceChange.put("D", c, 400)
+        ));
+
+        CategoryStatResponse resp = service.getCategoryStatDetail(c.getKrName());
+
+        assertThat(resp.getLowest()).extracting("brand").containsExactly("A");
+        assertThat(resp.getHighest()).extracting("brand").containsExactly("D");
+        assertThat(resp.getDistribution()).extracting("count", "mean", "p50", "p90", "p99")
+                .containsExactly(4, 250.0, 200, 400, 400);
+        verifyNoInteractions(productRepo, brandRepo);
+    }
+
+    @Test
+    void getCategoryStatDetail_fromDb_aggregatesWithoutLoadingCategory() {
+        Category c = Category.BAG;
+        when(productRepo.summarizeByCategory(c)).thenReturn(new CategoryPriceSummary(3L, 600L, 100, 400));
+        when(productRepo.findAtPricesByCategory(c, 100, 400)).thenReturn(List.of(
+                PriceChange.put("A", c, 100),
+                PriceChange.put("B", c, 100),
+                PriceChange.put("C", c, 400)
+        ));
+        // nearest-rank 위치: p50 → 1, p90·p99 → 2
+        when(productRepo.findPricesByCategory(eq(c), any())).thenAnswer(inv -> {
+            Pageable page = inv.getArgument(1);
+            return List.of(new int[]{100, 100, 400}[(int) page.getOffset()]);
+        });
+
+        CategoryStatResponse resp = priceService.getCategoryStatDetail(c.getKrName());
+
+        assertThat(resp.getLowest()).extracting("brand").containsExactly("A", "B");
+        assertThat(resp.getHighest()).extracting("brand", "price").containsExactly(tuple("C", 400));
+        assertThat(resp.getDistribution()).extracting("count", "mean", "p50", "p90", "p99")
+                .containsExactly(3, 200.0, 100, 400, 400);
+        ArgumentCaptor<Pageable> pages = ArgumentCaptor.forClass(Pageable.class);
+        verify(productRepo, times(3)).findPricesByCategory(eq(c), pages.capture());
+        assertThat(pages.getAllValues()).extracting(Pageable::getOffset, Pageable::getPageSize)
+                .containsExactly(tuple(1L, 1), tuple(2L, 1), tuple(2L, 1));
+        verify(productRepo, never()).findRankedByCategory(any(), any());
+    }
+
+    @Test
+    void getCategoryStatDetail_fromDb_emptyCategory_throwsNotFound() {
+        Category c = Category.BAG;
+        when(productRepo.summarizeByCategory(c)).thenReturn(new CategoryPriceSummary(0L, null, null, null));
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> priceService.getCategoryStatDetail(c.getKrName()));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.CATEGORY_NOT_FOUND);
+    }
 }
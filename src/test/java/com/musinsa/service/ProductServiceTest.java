@@ -8,14 +8,22 @@ import com.musinsa.common.ErrorCode;
 import com.musinsa.domain.Brand;
 import com.musinsa.domain.Category;
 import com.musinsa.domain.Product;
-import com.musinsa.repository.BrandRepository;
+import com.musinsa.dto.ProductPageResponse;
+import com.musinsa.dto.ProductResponse;
+import com.musinsa.index.CatalogChangedEvent;
+import com.musinsa.index.PriceChange;
 import com.musinsa.repository.ProductRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -26,11 +34,14 @@ import static org.mockito.Mockito.*;
 class ProductServiceTest {
 
     @Mock
-    private BrandRepository brandRepo;
+    private BrandIdCache brandIds;
 
     @Mock
     private ProductRepository productRepo;
 
+    @Mock
+    private ApplicationEventPublisher events;
+
     @InjectMocks
     private ProductService productService;
 
@@ -45,8 +56,8 @@ class ProductServiceTest {
         int price = 12345;
 
         Brand brand = new Brand(brandName);
-        when(brandRepo.findByName(brandName)).thenReturn(Optional.of(brand));
-        when(productRepo.existsByBrandAndCategory(brand, Category.TOP)).thenReturn(false);
+        when(brandIds.find(brandName)).thenReturn(Optional.of(brand));
+        when(productRepo.findCategoryTakenByBrandId(brand.getId(), Category.TOP)).thenReturn(Optional.of(false));
         Product saved = new Product(brand, Category.TOP, price);
         when(productRepo.save(any(Product.class))).thenReturn(saved);
 
@@ -61,7 +72,7 @@ class ProductServiceTest {
     @Test
     void createProduct_brandNotFound_throwsException() {
         String brandName = "NoBrand";
-        when(brandRepo.findByName(brandName)).thenReturn(Optional.empty());
+        when(brandIds.find(brandName)).thenReturn(Optional.empty());
 
         ApiException ex = assertThrows(ApiException.class,
                 () -> productService.createProduct(brandName, Category.TOP.getKrName(), 1000));
@@ -75,7 +86,7 @@ class ProductServiceTest {
     void createProduct_invalidCategory_throwsValidationError() {
         String brandName = "BrandA";
         String badCategory = "잘못된카테고리";
-        when(brandRepo.findByName(brandName)).thenReturn(Optional.of(new Brand(brandName)));
+        when(brandIds.find(brandName)).thenReturn(Optional.of(new Brand(brandName)));
 
         ApiException ex = assertThrows(ApiException.class,
                 () -> productService.createProduct(brandName, badCategory, 1000));
@@ -89,8 +100,8 @@ class ProductServiceTest {
     void createProduct_alreadyExists_throwsException() {
         String brandName = "BrandA";
         Brand brand = new Brand(brandName);
-        when(brandRepo.findByName(brandName)).thenReturn(Optional.of(brand));
-        when(productRepo.existsByBrandAndCategory(brand, Category.TOP)).thenReturn(true);
+        when(brandIds.find(brandName)).thenReturn(Optional.of(brand));
+        when(productRepo.findCategoryTakenByBrandId(brand.getId(), Category.TOP)).thenReturn(Optional.of(true));
 
         ApiException ex = assertThrows(ApiException.class,
                 () -> productService.createProduct(brandName, Category.TOP.getKrName(), 1000));
@@ -100,6 +111,23 @@ class ProductServiceTest {
                 .isEqualTo(ErrorCode.PRODUCT_ALREADY_EXISTS.getDefaultMessage());
     }
 
+    @Test
+    void createProduct_staleCachedBrand_evictsAndThrowsNotFound() {
+        String brandName = "GoneBrand";
+        Brand stale = new Brand(brandName);
+        stale.setId(9L);
+        when(brandIds.find(brandName)).thenReturn(Optional.of(stale));
+        when(productRepo.findCategoryTakenByBrandId(9L, Category.TOP)).thenReturn(Optional.empty());
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> productService.createProduct(brandName, Category.TOP.getKrName(), 1000));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BRAND_NOT_FOUND);
+        verify(brandIds).evict(brandName);
+        verify(productRepo, never()).save(any());
+        verifyNoInteractions(events);
+    }
+
     /*────────────────────────────────────────────────────────────────
      * updateProduct
      *────────────────────────────────────────────────────────────────*/
@@ -115,6 +143,21 @@ class ProductServiceTest {
 
         assertThat(result.getPrice()).isEqualTo(newPrice);
         verify(productRepo, never()).save(any()); // update uses entity setter only
+        verify(events).publishEvent(CatalogChangedEvent.of(PriceChange.put("B", Category.BOTTOM, newPrice)));
+    }
+
+    @Test
+    void createAndUpdateProduct_nonPositivePrice_rejectedBeforeLookup() {
+        for (int price : new int[]{0, -100}) {
+            ApiException created = assertThrows(ApiException.class,
+                    () -> productService.createProduct("BrandA", Category.TOP.getKrName(), price));
+            ApiException updated = assertThrows(ApiException.class,
+                    () -> productService.updateProduct(1L, price));
+
+            assertThat(created.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+            assertThat(updated.getMessage()).isEqualTo("가격은 0보다 커야 합니다.");
+        }
+        verifyNoInteractions(brandIds, productRepo, events);
     }
 
     @Test
@@ -130,6 +173,111 @@ class ProductServiceTest {
                 .isEqualTo(String.format("상품 ID %d를 찾을 수 없습니다.", id));
     }
 
+    /*────────────────────────────────────────────────────────────────
+     * updatePrices
+     *────────────────────────────────────────────────────────────────*/
+
+    @Test
+    void updatePrices_changesOnlyDifferentPrices_andPublishesOnce() {
+        Brand brand = new Brand("B");
+        Product top = product(1L, brand, Category.TOP, 1000);
+        Product cap = product(2L, brand, Category.CAP, 2000);
+        when(productRepo.findAllWithBrandByIdIn(anyList())).thenReturn(List.of(top, cap));
+
+        productService.updatePrices(Map.of(1L, 1500, 2L, 2000));
+
+        assertThat(top.getPrice()).isEqualTo(1500);
+        assertThat(cap.getPrice()).isEqualTo(2000);
+        verify(events, times(1)).publishEvent(
+                CatalogChangedEvent.of(PriceChange.put("B", Category.TOP, 1500)));
+    }
+
+    @Test
+    void updatePrices_missingId_throwsAndPublishesNothing() {
+        Product top = product(1L, new Brand("B"), Category.TOP, 1000);
+        when(productRepo.findAllWithBrandByIdIn(anyList())).thenReturn(List.of(top));
+
+        Map<Long, Integer> newPrices = new LinkedHashMap<>();
+        newPrices.put(1L, 1500);
+        newPrices.put(7L, 900);
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> productService.updatePrices(newPrices));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
+        assertThat(ex.getMessage()).isEqualTo("상품 ID [7]를 찾을 수 없습니다.");
+        verifyNoInteractions(events);
+    }
+
+    @Test
+    void updatePrices_nonPositivePrice_rejectedBeforeLookup() {
+        ApiException ex = assertThrows(ApiException.class,
+                () -> productService.updatePrices(Map.of(1L, 0)));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+        assertThat(ex.getMessage()).isEqualTo("상품 ID 1의 가격은 0보다 커야 합니다.");
+        verifyNoInteractions(productRepo, events);
+    }
+
+    @Test
+    void updatePrices_emptyOrOversized_rejectedBeforeLookup() {
+        Map<Long, Integer> tooMany = new LinkedHashMap<>();
+        for (long id = 1; id <= ProductService.MAX_PRICE_UPDATES + 1; id++) {
+            tooMany.put(id, 1000);
+        }
+
+        assertThat(assertThrows(ApiException.class, () -> productService.updatePrices(Map.of()))
+                .getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+        assertThat(assertThrows(ApiException.class, () -> productService.updatePrices(tooMany))
+                .getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+        verifyNoInteractions(productRepo, events);
+    }
+
+    private static Product product(Long id, Brand brand, Category category, int price) {
+        Product p = new Product(brand, category, price);
+        p.setId(id);
+        return p;
+    }
+
+    /*────────────────────────────────────────────────────────────────
+     * getProducts
+     *────────────────────────────────────────────────────────────────*/
+
+    @Test
+    void getProducts_fullPage_returnsNextCursorOfLastItem() {
+        when(productRepo.findPageAfter(eq(0L), isNull(), isNull(), eq(Limit.of(3)))).thenReturn(List.of(
+                new ProductResponse(1L, "A", Category.TOP, 100),
+                new ProductResponse(2L, "A", Category.HAT, 200),
+                new ProductResponse(3L, "B", Category.TOP, 300)));
+
+        ProductPageResponse page = productService.getProducts(null, 2, null, null);
+
+        assertThat(page.getItems()).extracting(ProductResponse::getId).containsExactly(1L, 2L);
+        assertThat(ProductService.decodeCursor(page.getNextCursor())).isEqualTo(2L);
+    }
+
+    @Test
+    void getProducts_lastPage_hasNoCursor_andSizeIsCapped() {
+        when(productRepo.findPageAfter(eq(2L), eq(Category.TOP), eq("B"),
+                eq(Limit.of(ProductService.MAX_PAGE_SIZE + 1))))
+                .thenReturn(List.of(new ProductResponse(3L, "B", Category.TOP, 300)));
+
+        ProductPageResponse page = productService.getProducts(
+                ProductService.encodeCursor(2L), 100_000, Category.TOP.getKrName(), "B");
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getProducts_invalidCursor_throwsValidationError() {
+        ApiException ex = assertThrows(ApiException.class,
+                () -> productService.getProducts("not-a-cursor", 10, null, null));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+        assertThat(ex.getMessage()).isEqualTo("유효하지 않은 커서입니다.");
+    }
+
     /*────────────────────────────────────────────────────────────────
      * deleteProduct
      *────────────────────────────────────────────────────────────────*/
@@ -143,6 +291,7 @@ class ProductServiceTest {
         productService.deleteProduct(id);
 
         verify(productRepo).delete(existing);
+        verify(events).publishEvent(CatalogChangedEvent.of(PriceChange.remove("B", Category.BOTTOM)));
     }
 
     @Test